@@ -0,0 +1,189 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Carga em laço fechado contra os endpoints de avaliação, para comparar a mesma
+ * aplicação com threads de plataforma e com threads virtuais.
+ *
+ *   java load/LoadCompare.java [baseUrl] [concorrência] [segundos]
+ *
+ * Registra (ou reaproveita) o usuário load@test.com, cria algumas avaliações e mede
+ * vazão e p50/p99 de cada endpoint separadamente.
+ */
+public class LoadCompare {
+
+    private static final String EMAIL = "load@test.com";
+    private static final String PASSWORD = "load123";
+
+    public static void main(String[] args) throws Exception {
+
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(8))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String token = login(client, baseUrl);
+        long id = seed(client, baseUrl, token, 50);
+
+        List<String> paths = List.of(
+                "/api/evaluations?page=0&size=20",
+                "/api/evaluations/" + id,
+                "/api/evaluations/filter?language=JAVA&minScore=10",
+                "/api/evaluations/dashboard"
+        );
+
+        System.out.printf("%-55s %10s %10s %10s %10s %8s%n",
+                "endpoint (" + concurrency + " clientes, " + seconds + "s)",
+                "req/s", "p50 ms", "p99 ms", "max ms", "erros");
+
+        for (String path : paths) {
+            run(client, baseUrl + path, token, concurrency, Math.min(5, seconds));
+            Result result = run(client, baseUrl + path, token, concurrency, seconds);
+            System.out.printf("%-55s %10.0f %10.1f %10.1f %10.1f %8d%n",
+                    path, result.throughput, result.percentile(50), result.percentile(99),
+                    result.percentile(100), result.errors);
+        }
+
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, String url, String token, int concurrency, int seconds)
+            throws InterruptedException {
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        List<long[]> samples = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            long[] latencies = new long[1 << 16];
+            int[] count = new int[1];
+            synchronized (samples) {
+                samples.add(latencies);
+            }
+            callers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response =
+                                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count[0] < latencies.length - 1) {
+                            latencies[++count[0]] = System.nanoTime() - begin;
+                        }
+                    }
+                    latencies[0] = count[0];
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        callers.shutdown();
+
+        int total = 0;
+        for (long[] latencies : samples) {
+            total += (int) latencies[0];
+        }
+
+        long[] all = new long[total];
+        int position = 0;
+        for (long[] latencies : samples) {
+            int count = (int) latencies[0];
+            System.arraycopy(latencies, 1, all, position, count);
+            position += count;
+        }
+        Arrays.sort(all);
+
+        return new Result(all, total * 1e9 / elapsed, errors.get());
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+
+        String credentials = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+
+        post(client, baseUrl + "/auth/register", null,
+                "{\"name\":\"Load\",\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}");
+
+        String body = post(client, baseUrl + "/auth/login", null, credentials);
+        Matcher matcher = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"").matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login falhou: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    private static long seed(HttpClient client, String baseUrl, String token, int count) throws Exception {
+
+        String[] languages = {"JAVA", "PYTHON", "GO", "RUST", "PHP"};
+        long lastId = 0;
+
+        for (int i = 0; i < count; i++) {
+            String body = post(client, baseUrl + "/api/evaluations", token,
+                    "{\"projectName\":\"load-" + i + "\",\"language\":\"" + languages[i % languages.length]
+                            + "\",\"linesOfCode\":" + (100 + i * 37) + ",\"complexity\":" + (1 + i % 5)
+                            + ",\"hasTests\":" + (i % 2 == 0) + ",\"usesGit\":true,\"analyzedBy\":\"load\"}");
+            Matcher matcher = Pattern.compile("\"id\"\\s*:\\s*(\\d+)").matcher(body);
+            if (matcher.find()) {
+                lastId = Long.parseLong(matcher.group(1));
+            }
+        }
+
+        return lastId;
+    }
+
+    private static String post(HttpClient client, String url, String token, String json) throws Exception {
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private record Result(long[] sortedNanos, double throughput, long errors) {
+
+        double percentile(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.EvaluationColumns;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Agregação de /analytics sobre o conjunto em colunas de um usuário, sem o banco
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private EvaluationColumns store;
+
+    private final AnalyticsQuery count = AnalyticsQuery.parse(
+            "language", "count", null, null, null);
+    private final AnalyticsQuery averageByWeek = AnalyticsQuery.parse(
+            "language,classification", "avg(score)", "week", null, null);
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(42);
+        Language[] languages = Language.values();
+        Classification[] classifications = Classification.values();
+        LocalDate first = LocalDate.of(2023, 1, 1);
+
+        store = new EvaluationColumns(rows);
+        for (int i = 1; i <= rows; i++) {
+            store.put(
+                    i,
+                    random.nextInt(101),
+                    random.nextInt(5) + 1,
+                    random.nextInt(20_000) + 1,
+                    languages[random.nextInt(languages.length)],
+                    classifications[random.nextInt(classifications.length)],
+                    random.nextBoolean(),
+                    random.nextBoolean(),
+                    first.plusDays(random.nextInt(730))
+            );
+        }
+    }
+
+    @Benchmark
+    public AnalyticsResultDTO countByLanguage() {
+        return store.aggregate(count, 100_000);
+    }
+
+    @Benchmark
+    public AnalyticsResultDTO averageScoreByLanguageClassificationAndWeek() {
+        return store.aggregate(averageByWeek, 100_000);
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.DescriptionGeneratorServiceImpl;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.EvaluationScoring;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+// Entradas geradas com semente fixa: todas as execuções medem exatamente os mesmos dados
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+
+    private static final String[] PREFIXES = {
+            "quality", "billing", "payments", "auth", "catalog", "inventory", "search",
+            "notification", "gateway", "reporting", "checkout", "analytics"
+    };
+
+    private static final String[] SUFFIXES = {
+            "api", "service", "worker", "frontend", "sdk", "cli", "evaluator", "core", "batch"
+    };
+
+    private static final String[] ANALYSTS = {
+            "Marcelo Scoleso", "Ana Souza", "João Pereira", "Carla Lima", "Rafael Costa"
+    };
+
+    // Distribuição aproximada de linguagens em uso real, mais concentrada nas principais
+    private static final Language[] LANGUAGE_WEIGHTS = {
+            Language.JAVA, Language.JAVA, Language.JAVA, Language.TYPESCRIPT, Language.TYPESCRIPT,
+            Language.PYTHON, Language.PYTHON, Language.JAVASCRIPT, Language.CSHARP, Language.GO,
+            Language.KOTLIN, Language.PHP, Language.RUBY, Language.SWIFT, Language.C, Language.CPP,
+            Language.RUST, Language.DART, Language.OTHER
+    };
+
+    private BenchmarkData() {
+    }
+
+    static List<EvaluationRequestDTO> requests(int count) {
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<EvaluationRequestDTO> requests = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            requests.add(request(random));
+        }
+
+        return requests;
+    }
+
+    static List<Evaluation> evaluations(int count) {
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        DescriptionGeneratorServiceImpl generator = new DescriptionGeneratorServiceImpl(true);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        List<Evaluation> evaluations = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+
+            EvaluationRequestDTO dto = request(random);
+            int score = EvaluationScoring.calculateScore(dto);
+            Classification classification = EvaluationScoring.classify(score);
+
+            Evaluation evaluation = new Evaluation();
+            ReflectionTestUtils.setField(evaluation, "id", (long) i + 1);
+            evaluation.setProjectName(dto.getProjectName());
+            evaluation.setLanguage(dto.getLanguage());
+            evaluation.setLinesOfCode(dto.getLinesOfCode());
+            evaluation.setComplexity(dto.getComplexity());
+            evaluation.setHasTests(dto.getHasTests());
+            evaluation.setUsesGit(dto.getUsesGit());
+            evaluation.setAnalyzedBy(dto.getAnalyzedBy());
+            evaluation.setScore(score);
+            evaluation.setClassification(classification);
+            evaluation.setDescriptionTemplate(generator.template(dto, score, classification));
+            evaluation.setDescriptionStatus(DescriptionStatus.READY);
+            evaluation.setCreatedAt(start.plusMinutes(random.nextInt(60 * 24 * 365)));
+            evaluations.add(evaluation);
+        }
+
+        return evaluations;
+    }
+
+    // Dashboard de um usuário com um ano de histórico
+    static DashboardSummaryDTO dashboard() {
+
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        Map<Language, Long> languages = new EnumMap<>(Language.class);
+        for (Language language : LANGUAGE_WEIGHTS) {
+            languages.merge(language, 1L + random.nextInt(400), Long::sum);
+        }
+
+        Map<String, Long> byLanguage = new LinkedHashMap<>();
+        languages.forEach((language, count) -> byLanguage.put(language.name(), count));
+
+        Map<LocalDate, Double> scoreEvolution = new TreeMap<>();
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 365; i++) {
+            scoreEvolution.put(day.plusDays(i), 40 + random.nextDouble() * 55);
+        }
+
+        long total = byLanguage.values().stream().mapToLong(Long::longValue).sum();
+
+        return new DashboardSummaryDTO(
+                total, total / 8, total / 3, total / 3, total - total / 8 - 2 * (total / 3),
+                68.4, byLanguage, scoreEvolution, 61.2, 88.7
+        );
+    }
+
+    private static EvaluationRequestDTO request(SplittableRandom random) {
+
+        EvaluationRequestDTO dto = new EvaluationRequestDTO();
+        dto.setProjectName(PREFIXES[random.nextInt(PREFIXES.length)] + "-"
+                + SUFFIXES[random.nextInt(SUFFIXES.length)]
+                + (random.nextInt(4) == 0 ? "-v" + (2 + random.nextInt(3)) : ""));
+        dto.setLanguage(LANGUAGE_WEIGHTS[random.nextInt(LANGUAGE_WEIGHTS.length)]);
+        // Tamanho com cauda longa: maioria entre centenas e poucos milhares de linhas
+        dto.setLinesOfCode((int) Math.min(200_000, Math.exp(4 + random.nextDouble() * 6)));
+        dto.setComplexity(1 + random.nextInt(5));
+        dto.setHasTests(random.nextInt(10) < 6);
+        dto.setUsesGit(random.nextInt(10) < 9);
+        dto.setAnalyzedBy(ANALYSTS[random.nextInt(ANALYSTS.length)]);
+        return dto;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.DescriptionGeneratorServiceImpl;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.EvaluationScoring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescriptionBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    // true: sorteio com semente derivada da entrada (app.description.deterministic)
+    @Param({"false", "true"})
+    public boolean deterministic;
+
+    private DescriptionGeneratorServiceImpl generator;
+    private EvaluationRequestDTO[] requests;
+    private int[] scores;
+    private Classification[] classifications;
+    private int next;
+
+    @Setup
+    public void setup() {
+        generator = new DescriptionGeneratorServiceImpl(deterministic);
+        requests = BenchmarkData.requests(INPUTS).toArray(new EvaluationRequestDTO[0]);
+        scores = new int[INPUTS];
+        classifications = new Classification[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            scores[i] = EvaluationScoring.calculateScore(requests[i]);
+            classifications[i] = EvaluationScoring.classify(scores[i]);
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        int i = next = (next + 1) & (INPUTS - 1);
+        return generator.generate(requests[i], scores[i], classifications[i]);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationResponseDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.EvaluationMapper;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationFields;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serialização das respostas mais pesadas com a mesma configuração de ObjectMapper do Spring
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final ObjectWriter WRITER = Jackson2ObjectMapperBuilder.json()
+            .filters(EvaluationFields.ALL)
+            .build()
+            .writer();
+
+    // Mesma página com fields=id,projectName,score
+    private static final ObjectWriter SPARSE_WRITER = WRITER.with(EvaluationFields.only(
+            EnumSet.of(EvaluationField.ID, EvaluationField.PROJECT_NAME, EvaluationField.SCORE)));
+
+    @State(Scope.Thread)
+    public static class PageState {
+
+        @Param({"20", "100"})
+        public int pageSize;
+
+        private Page<EvaluationResponseDTO> page;
+
+        @Setup
+        public void setup() {
+            List<EvaluationResponseDTO> content = BenchmarkData.evaluations(pageSize).stream()
+                    .map(EvaluationMapper::toResponseDTO)
+                    .toList();
+            page = new PageImpl<>(
+                    content,
+                    PageRequest.of(0, pageSize, Sort.by(Sort.Order.desc("createdAt"))),
+                    12_345
+            );
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DashboardState {
+
+        private DashboardSummaryDTO dashboard;
+
+        @Setup
+        public void setup() {
+            dashboard = BenchmarkData.dashboard();
+        }
+    }
+
+    @Benchmark
+    public byte[] page(PageState state) throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(state.page);
+    }
+
+    @Benchmark
+    public byte[] sparsePage(PageState state) throws JsonProcessingException {
+        return SPARSE_WRITER.writeValueAsBytes(state.page);
+    }
+
+    @Benchmark
+    public byte[] dashboard(DashboardState state) throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(state.dashboard);
+    }
+}
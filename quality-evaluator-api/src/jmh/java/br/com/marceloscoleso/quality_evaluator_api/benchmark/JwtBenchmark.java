@@ -0,0 +1,66 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+import br.com.marceloscoleso.quality_evaluator_api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Verificação do token por requisição: com o cache de tokens verificados e sem ele (assinatura sempre)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[48]);
+
+    private JwtService cached;
+    private JwtService uncached;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cached = new JwtService(SECRET, 10_000, Duration.ofHours(1), new SimpleMeterRegistry());
+        // max-ttl zero: toda entrada vence na criação, então cada chamada verifica a assinatura
+        uncached = new JwtService(SECRET, 10_000, Duration.ZERO, new SimpleMeterRegistry());
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("analista@empresa.com.br");
+        user.setRole(Role.USER);
+        token = cached.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims parseCached() {
+        return cached.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return uncached.parseClaims(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cached.generateToken(user);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationResponseDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.EvaluationMapper;
+import br.com.marceloscoleso.quality_evaluator_api.util.CsvExporterApi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entidade -> DTO e entidade -> CSV, no tamanho de uma página e de uma exportação
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"20", "5000"})
+    public int rows;
+
+    private List<Evaluation> evaluations;
+
+    @Setup
+    public void setup() {
+        evaluations = BenchmarkData.evaluations(rows);
+    }
+
+    @Benchmark
+    public List<EvaluationResponseDTO> toResponseDTO() {
+        return evaluations.stream().map(EvaluationMapper::toResponseDTO).toList();
+    }
+
+    @Benchmark
+    public byte[] csvExport() {
+        return CsvExporterApi.export(evaluations);
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.marceloscoleso.quality_evaluator_api.benchmark;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.EvaluationScoring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private EvaluationRequestDTO[] requests;
+    private int[] scores;
+    private int next;
+
+    @Setup
+    public void setup() {
+        requests = BenchmarkData.requests(INPUTS).toArray(new EvaluationRequestDTO[0]);
+        scores = new int[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            scores[i] = EvaluationScoring.calculateScore(requests[i]);
+        }
+    }
+
+    // Percorre as entradas em ciclo para o JIT não especializar em um único valor
+    private int nextIndex() {
+        next = (next + 1) & (INPUTS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        return EvaluationScoring.calculateScore(requests[nextIndex()]);
+    }
+
+    @Benchmark
+    public int simulateCodeQuality() {
+        EvaluationRequestDTO dto = requests[nextIndex()];
+        return EvaluationScoring.simulateCodeQuality(dto.getProjectName(), dto.getLanguage());
+    }
+
+    @Benchmark
+    public Classification classify() {
+        return EvaluationScoring.classify(scores[nextIndex()]);
+    }
+}
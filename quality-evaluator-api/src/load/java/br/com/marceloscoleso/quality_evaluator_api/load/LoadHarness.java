@@ -0,0 +1,535 @@
+package br.com.marceloscoleso.quality_evaluator_api.load;
+
+import br.com.marceloscoleso.quality_evaluator_api.QualityEvaluatorApiApplication;
+import br.com.marceloscoleso.quality_evaluator_api.service.DatasetGeneratorService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Teste de carga de ponta a ponta dentro da mesma JVM: sobe a aplicação com H2 em memória,
+ * gera a massa sintética, autentica usuários sintéticos e dispara uma mistura de operações
+ * em taxa fixa (modelo aberto). A latência é medida a partir do instante planejado de cada
+ * requisição, então filas no servidor aparecem nos percentis em vez de reduzir a carga.
+ *
+ *   mvn -Pload test-compile exec:exec -Dload.args="--rate=200 --duration=60"
+ *
+ * Opções (--chave=valor): users, evaluations, clients, rate, warmup, duration, threads, mix,
+ * out, db. Qualquer --spring.* ou --app.* é repassado para a aplicação.
+ */
+public final class LoadHarness {
+
+    private static final String PASSWORD = "senha123";
+    private static final long MIX_SEED = 42L;
+
+    private static final String[] LANGUAGES = {"JAVA", "TYPESCRIPT", "PYTHON", "JAVASCRIPT", "CSHARP", "GO"};
+
+    private final Map<String, String> options;
+    private final List<String> appArgs;
+    private final ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private HttpClient http;
+    private String baseUrl;
+
+    private LoadHarness(Map<String, String> options, List<String> appArgs) {
+        this.options = options;
+        this.appArgs = appArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("users", "1000");
+        options.put("evaluations", "200000");
+        options.put("clients", "50");
+        options.put("rate", "100");
+        options.put("warmup", "10");
+        options.put("duration", "30");
+        options.put("threads", "64");
+        options.put("mix", "create=10,list=25,byId=10,filter=25,dashboard=25,export=5");
+        options.put("db", "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1");
+        options.put("out", "target/load/load-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+        List<String> appArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            if (key.startsWith("spring.") || key.startsWith("app.") || key.startsWith("logging.")) {
+                appArgs.add(arg);
+            } else if (options.containsKey(key)) {
+                options.put(key, arg.substring(arg.indexOf('=') + 1));
+            } else {
+                throw new IllegalArgumentException("Opção desconhecida: " + key);
+            }
+        }
+
+        int status = new LoadHarness(options, appArgs).run();
+        System.exit(status);
+    }
+
+    private int run() throws Exception {
+
+        long bootStarted = System.nanoTime();
+        ConfigurableApplicationContext context = boot();
+        double bootSeconds = (System.nanoTime() - bootStarted) / 1e9;
+
+        try {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            int threads = intOption("threads");
+            ExecutorService workers = Executors.newFixedThreadPool(threads);
+            http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            List<Client> clients = login(intOption("clients"), intOption("users"));
+            Operation[] mix = parseMix(options.get("mix"));
+
+            System.out.printf("Aplicação pronta em %.1f s; %d clientes autenticados%n", bootSeconds, clients.size());
+
+            Map<String, Meter> meters = new LinkedHashMap<>();
+            for (Operation operation : mix) {
+                meters.putIfAbsent(operation.name, new Meter(operation));
+            }
+
+            long rate = intOption("rate");
+            long warmupNanos = TimeUnit.SECONDS.toNanos(intOption("warmup"));
+            long measureNanos = TimeUnit.SECONDS.toNanos(intOption("duration"));
+
+            Map<String, double[]> queriesBefore = new LinkedHashMap<>();
+            long start = System.nanoTime();
+            long measureStart = start + warmupNanos;
+            long end = measureStart + measureNanos;
+            long interval = 1_000_000_000L / Math.max(1, rate);
+            SplittableRandom random = new SplittableRandom(MIX_SEED);
+            boolean snapshotTaken = false;
+
+            for (long n = 0; ; n++) {
+
+                long intended = start + n * interval;
+                if (intended >= end) {
+                    break;
+                }
+
+                if (!snapshotTaken && intended >= measureStart) {
+                    queriesBefore = queryTotals(registry, meters);
+                    snapshotTaken = true;
+                }
+
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = mix[random.nextInt(mix.length)];
+                Client client = clients.get(random.nextInt(clients.size()));
+                Meter meter = meters.get(operation.name);
+                boolean measured = intended >= measureStart;
+
+                workers.execute(() -> execute(operation, client, meter, intended, measured));
+            }
+
+            workers.shutdown();
+            workers.awaitTermination(2, TimeUnit.MINUTES);
+            double elapsed = (System.nanoTime() - measureStart) / 1e9;
+
+            Map<String, double[]> queriesAfter = queryTotals(registry, meters);
+            Map<String, Object> report = report(meters, queriesBefore, queriesAfter, elapsed, bootSeconds);
+            print(report);
+            save(report);
+
+            return 0;
+        } finally {
+            context.close();
+        }
+    }
+
+    private ConfigurableApplicationContext boot() {
+
+        byte[] secret = new byte[48];
+        new SecureRandom().nextBytes(secret);
+
+        // Passados como argumentos de linha de comando: têm precedência sobre application.yml/properties
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", options.get("db"));
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("jwt.secret", Base64.getEncoder().encodeToString(secret));
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.br.com.marceloscoleso", "INFO");
+        properties.put("app.seed.users", options.get("users"));
+        properties.put("app.seed.evaluations", options.get("evaluations"));
+        properties.put("app.seed.password", PASSWORD);
+        properties.put("app.diagnostics.query-count.enabled", true);
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        // Repassados pelo usuário vêm depois e sobrescrevem os acima
+        args.addAll(appArgs);
+
+        // O restart do DevTools reinvocaria main() sem os argumentos do harness
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        return new SpringApplicationBuilder(QualityEvaluatorApiApplication.class)
+                .run(args.toArray(new String[0]));
+    }
+
+    // Clientes espalhados ao longo da distribuição: inclui usuários com muito e com pouco histórico
+    private List<Client> login(int count, int users) throws IOException, InterruptedException {
+
+        List<Client> clients = new ArrayList<>(count);
+        int step = Math.max(1, users / Math.max(1, count));
+
+        for (int index = 1; index <= users && clients.size() < count; index += step) {
+
+            String body = json.writeValueAsString(Map.of(
+                    "email", DatasetGeneratorService.email(index),
+                    "password", PASSWORD));
+
+            HttpResponse<String> response = http.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Falha no login de " + index + ": " + response.body());
+            }
+
+            Client client = new Client("Bearer " + json.readTree(response.body()).get("token").asText());
+            client.ids.addAll(firstIds(client));
+            clients.add(client);
+        }
+
+        return clients;
+    }
+
+    private List<Long> firstIds(Client client) throws IOException, InterruptedException {
+
+        HttpResponse<String> response = http.send(
+                get(client, "/api/evaluations?page=0&size=50"), HttpResponse.BodyHandlers.ofString());
+
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode item : json.readTree(response.body()).path("content")) {
+            ids.add(item.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private void execute(Operation operation, Client client, Meter meter, long intended, boolean measured) {
+
+        int status;
+
+        try {
+            HttpResponse<Void> response = http.send(
+                    operation.request(this, client), HttpResponse.BodyHandlers.discarding());
+            status = response.statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (!measured) {
+            return;
+        }
+
+        long micros = Math.max(1, (System.nanoTime() - intended) / 1_000);
+        meter.latency.recordValue(Math.min(micros, meter.latency.getHighestTrackableValue()));
+        meter.requests.incrementAndGet();
+        if (status < 200 || status >= 300) {
+            meter.errors.incrementAndGet();
+            // -1 = falha de conexão/timeout
+            meter.errorStatuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private HttpRequest get(Client client, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", client.token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest create(Client client) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String body = "{\"projectName\":\"load-" + random.nextInt(1000) + "\","
+                + "\"language\":\"" + LANGUAGES[random.nextInt(LANGUAGES.length)] + "\","
+                + "\"linesOfCode\":" + (50 + random.nextInt(5000)) + ","
+                + "\"complexity\":" + (1 + random.nextInt(5)) + ","
+                + "\"hasTests\":" + random.nextBoolean() + ","
+                + "\"usesGit\":true,"
+                + "\"analyzedBy\":\"Teste de carga\"}";
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/evaluations"))
+                .header("Authorization", client.token)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String filterPath() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "/api/evaluations/filter?language=" + LANGUAGES[random.nextInt(LANGUAGES.length)]
+                + "&minScore=" + (20 + random.nextInt(50)) + "&page=0&size=20";
+    }
+
+    private static String exportPath() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Filtro amplo: usuários da cauda têm poucas avaliações e export vazio responde 400
+        return "/api/evaluations/export/csv?minScore=" + random.nextInt(40);
+    }
+
+    private Operation[] parseMix(String mix) {
+
+        List<Operation> weighted = new ArrayList<>();
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Operation operation = Operation.named(parts[0]);
+            for (int i = 0; i < Integer.parseInt(parts[1]); i++) {
+                weighted.add(operation);
+            }
+        }
+
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("Mistura de operações vazia");
+        }
+
+        return weighted.toArray(new Operation[0]);
+    }
+
+    // [quantidade, soma] de db.queries por operação
+    private Map<String, double[]> queryTotals(MeterRegistry registry, Map<String, Meter> meters) {
+
+        Map<String, double[]> totals = new LinkedHashMap<>();
+
+        for (Meter meter : meters.values()) {
+            DistributionSummary summary = registry.find("db.queries")
+                    .tag("method", meter.operation.method)
+                    .tag("uri", meter.operation.uri)
+                    .summary();
+            totals.put(meter.operation.name, summary == null
+                    ? new double[]{0, 0}
+                    : new double[]{summary.count(), summary.totalAmount()});
+        }
+
+        return totals;
+    }
+
+    private Map<String, Object> report(
+            Map<String, Meter> meters,
+            Map<String, double[]> queriesBefore,
+            Map<String, double[]> queriesAfter,
+            double elapsed,
+            double bootSeconds
+    ) {
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(TimeUnit.MINUTES.toMicros(2), 3);
+        long requests = 0;
+        long errors = 0;
+
+        for (Meter meter : meters.values()) {
+
+            double[] before = queriesBefore.getOrDefault(meter.operation.name, new double[]{0, 0});
+            double[] after = queriesAfter.get(meter.operation.name);
+            double count = after[0] - before[0];
+
+            Map<String, Object> result = latency(meter.latency);
+            result.put("endpoint", meter.operation.method + " " + meter.operation.uri);
+            result.put("requests", meter.requests.get());
+            result.put("errors", meter.errors.get());
+            if (!meter.errorStatuses.isEmpty()) {
+                Map<String, Long> statuses = new TreeMap<>();
+                meter.errorStatuses.forEach((status, total) -> statuses.put(String.valueOf(status), total.get()));
+                result.put("errorStatuses", statuses);
+            }
+            result.put("throughput", round(meter.requests.get() / elapsed));
+            result.put("queriesPerRequest", count == 0 ? null : round((after[1] - before[1]) / count));
+            endpoints.put(meter.operation.name, result);
+
+            all.add(meter.latency);
+            requests += meter.requests.get();
+            errors += meter.errors.get();
+        }
+
+        Map<String, Object> total = latency(all);
+        total.put("requests", requests);
+        total.put("errors", errors);
+        total.put("throughput", round(requests / elapsed));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("options", options);
+        report.put("appArgs", appArgs);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("processors", Runtime.getRuntime().availableProcessors());
+        report.put("bootSeconds", round(bootSeconds));
+        report.put("measuredSeconds", round(elapsed));
+        report.put("total", total);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Map<String, Object> latency(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("meanMs", round(histogram.getMean() / 1000));
+        result.put("p50Ms", round(histogram.getValueAtPercentile(50) / 1000.0));
+        result.put("p90Ms", round(histogram.getValueAtPercentile(90) / 1000.0));
+        result.put("p99Ms", round(histogram.getValueAtPercentile(99) / 1000.0));
+        result.put("p999Ms", round(histogram.getValueAtPercentile(99.9) / 1000.0));
+        result.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void print(Map<String, Object> report) {
+
+        System.out.printf("%n%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operação", "req", "erros", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "SQL/req");
+
+        Map<String, Object> endpoints = (Map<String, Object>) report.get("endpoints");
+        endpoints.forEach((name, value) -> printRow(name, (Map<String, Object>) value));
+        printRow("total", (Map<String, Object>) report.get("total"));
+    }
+
+    private static void printRow(String name, Map<String, Object> row) {
+        Object queries = row.get("queriesPerRequest");
+        System.out.printf("%-10s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9s%n",
+                name, row.get("requests"), row.get("errors"), row.get("throughput"),
+                row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"),
+                queries == null ? "-" : queries.toString());
+    }
+
+    private void save(Map<String, Object> report) throws IOException {
+        Path out = Path.of(options.get("out"));
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        json.writeValue(out.toFile(), report);
+        System.out.printf("%nResultado salvo em %s%n", out.toAbsolutePath());
+    }
+
+    private int intOption(String name) {
+        return Integer.parseInt(options.get(name));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class Client {
+
+        private final String token;
+        private final List<Long> ids = new ArrayList<>();
+
+        private Client(String token) {
+            this.token = token;
+        }
+    }
+
+    private static final class Meter {
+
+        private final Operation operation;
+        // Microssegundos, até 2 minutos, 3 dígitos significativos
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(2), 3);
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final Map<Integer, AtomicLong> errorStatuses = new ConcurrentHashMap<>();
+
+        private Meter(Operation operation) {
+            this.operation = operation;
+        }
+    }
+
+    private enum Operation {
+
+        CREATE("create", "POST", "/api/evaluations"),
+        LIST("list", "GET", "/api/evaluations"),
+        BY_ID("byId", "GET", "/api/evaluations/{id}"),
+        FILTER("filter", "GET", "/api/evaluations/filter"),
+        DASHBOARD("dashboard", "GET", "/api/evaluations/dashboard"),
+        STATS("stats", "GET", "/api/evaluations/stats"),
+        EXPORT("export", "GET", "/api/evaluations/export/csv");
+
+        private final String name;
+        private final String method;
+        private final String uri;
+
+        Operation(String name, String method, String uri) {
+            this.name = name;
+            this.method = method;
+            this.uri = uri;
+        }
+
+        static Operation named(String name) {
+            for (Operation operation : values()) {
+                if (operation.name.equals(name)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Operação desconhecida: " + name);
+        }
+
+        HttpRequest request(LoadHarness harness, Client client) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return switch (this) {
+                case CREATE -> harness.create(client);
+                case LIST -> harness.get(client, "/api/evaluations?page=" + random.nextInt(5) + "&size=20");
+                case BY_ID -> harness.get(client, "/api/evaluations/"
+                        + (client.ids.isEmpty() ? 1 : client.ids.get(random.nextInt(client.ids.size()))));
+                case FILTER -> harness.get(client, filterPath());
+                case DASHBOARD -> harness.get(client, "/api/evaluations/dashboard");
+                case STATS -> harness.get(client, "/api/evaluations/stats");
+                case EXPORT -> harness.get(client, exportPath());
+            };
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * Métricas de negócio registradas uma única vez, na inicialização. Os caminhos de escrita e
+ * leitura só indexam arrays/mapas já prontos: nenhuma busca no registry nem alocação de tags
+ * por requisição.
+ */
+@Component
+public class BusinessMetrics {
+
+    public enum Operation {
+        CREATE, BATCH, UPDATE, DELETE, FILTER, EXPORT, ANALYTICS;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    // [classification][language]
+    private final Counter[][] created;
+    private final Counter[][] updated;
+    private final Counter deleted;
+    private final Counter notFound;
+
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+
+    private final DistributionSummary pageRowsScanned;
+    private final DistributionSummary pageRowsReturned;
+    private final DistributionSummary cursorRowsScanned;
+    private final DistributionSummary cursorRowsReturned;
+    private final DistributionSummary exportRows;
+    private final DistributionSummary exportBytes;
+
+    public BusinessMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.slo:10ms,25ms,50ms,100ms,250ms,500ms,1s,2s}") Duration[] slo
+    ) {
+        this.created = perClassificationAndLanguage(meterRegistry, "business.evaluations.created");
+        this.updated = perClassificationAndLanguage(meterRegistry, "business.evaluations.updated");
+        this.deleted = Counter.builder("business.evaluations.deleted")
+                .register(meterRegistry);
+        this.notFound = Counter.builder("business.evaluations.not_found")
+                .register(meterRegistry);
+
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder("business.evaluations." + operation.tag + ".time")
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(slo)
+                    .register(meterRegistry));
+        }
+
+        this.pageRowsScanned = rows(meterRegistry, "business.evaluations.filter.rows", "page", "scanned");
+        this.pageRowsReturned = rows(meterRegistry, "business.evaluations.filter.rows", "page", "returned");
+        this.cursorRowsScanned = rows(meterRegistry, "business.evaluations.filter.rows", "cursor", "scanned");
+        this.cursorRowsReturned = rows(meterRegistry, "business.evaluations.filter.rows", "cursor", "returned");
+
+        this.exportRows = DistributionSummary.builder("business.evaluations.export.rows")
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+        this.exportBytes = DistributionSummary.builder("business.evaluations.export.bytes")
+                .baseUnit("bytes")
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    public <T> T record(Operation operation, Supplier<T> action) {
+        return timers.get(operation).record(action);
+    }
+
+    public void record(Operation operation, Runnable action) {
+        timers.get(operation).record(action);
+    }
+
+    public void created(Classification classification, Language language) {
+        created[classification.ordinal()][language.ordinal()].increment();
+    }
+
+    public void updated(Classification classification, Language language) {
+        updated[classification.ordinal()][language.ordinal()].increment();
+    }
+
+    public void deleted() {
+        deleted.increment();
+    }
+
+    public void notFound() {
+        notFound.increment();
+    }
+
+    // Paginação por offset: "scanned" é o total que casou com o filtro (o count da página)
+    public void pageRead(long matched, int returned) {
+        pageRowsScanned.record(matched);
+        pageRowsReturned.record(returned);
+    }
+
+    // Cursor: "scanned" inclui a linha extra usada para detectar a próxima página
+    public void cursorRead(int fetched, int returned) {
+        cursorRowsScanned.record(fetched);
+        cursorRowsReturned.record(returned);
+    }
+
+    public void exported(long rows, long bytes) {
+        exportRows.record(rows);
+        exportBytes.record(bytes);
+    }
+
+    private static Counter[][] perClassificationAndLanguage(MeterRegistry meterRegistry, String name) {
+
+        Counter[][] counters = new Counter[Classification.values().length][Language.values().length];
+
+        for (Classification classification : Classification.values()) {
+            for (Language language : Language.values()) {
+                counters[classification.ordinal()][language.ordinal()] = Counter.builder(name)
+                        .tag("classification", classification.name())
+                        .tag("language", language.name())
+                        .register(meterRegistry);
+            }
+        }
+
+        return counters;
+    }
+
+    private static DistributionSummary rows(MeterRegistry meterRegistry, String name, String mode, String stage) {
+        return DistributionSummary.builder(name)
+                .tag("mode", mode)
+                .tag("stage", stage)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EVALUATIONS = "evaluations";
+    public static final String EVALUATION = "evaluation";
+    public static final String EVALUATION_STATS = "evaluationStats";
+    public static final String DASHBOARD_SUMMARY = "dashboardSummary";
+
+    @Value("${app.cache.evaluations.max-rows:50000}")
+    private long evaluationsMaxRows;
+
+    @Value("${app.cache.evaluations.ttl:5m}")
+    private Duration evaluationsTtl;
+
+    @Value("${app.cache.evaluation.max-size:10000}")
+    private long evaluationMaxSize;
+
+    @Value("${app.cache.evaluation.ttl:10m}")
+    private Duration evaluationTtl;
+
+    @Value("${app.cache.summary.max-size:10000}")
+    private long summaryMaxSize;
+
+    @Value("${app.cache.summary.ttl:10m}")
+    private Duration summaryTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        // Páginas pesam pelo número de linhas, não pelo número de entradas
+        cacheManager.registerCustomCache(EVALUATIONS, Caffeine.newBuilder()
+                .maximumWeight(evaluationsMaxRows)
+                .weigher((Object key, Object page) -> 1 + ((Page<?>) page).getNumberOfElements())
+                .expireAfterWrite(evaluationsTtl)
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(EVALUATION, Caffeine.newBuilder()
+                .maximumSize(evaluationMaxSize)
+                .expireAfterWrite(evaluationTtl)
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(EVALUATION_STATS, Caffeine.newBuilder()
+                .maximumSize(summaryMaxSize)
+                .expireAfterWrite(summaryTtl)
+                .recordStats()
+                .build());
+
+        // A chave inclui a versão dos dados do usuário: um refresh em segundo plano recalcularia
+        // um valor que nenhuma leitura volta a pedir, então basta expirar
+        cacheManager.registerCustomCache(DASHBOARD_SUMMARY, Caffeine.newBuilder()
+                .maximumSize(summaryMaxSize)
+                .expireAfterWrite(summaryTtl)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import br.com.marceloscoleso.quality_evaluator_api.controller.EvaluationController;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationFields;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Parameter;
+import java.util.Set;
+
+// Aplica "fields=" na serialização: só as propriedades pedidas de EvaluationResponseDTO vão para o JSON.
+// O parâmetro já foi validado pelo controller, que usou o mesmo conjunto para montar o SELECT.
+@RestControllerAdvice(assignableTypes = EvaluationController.class)
+public class EvaluationFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    // Só endpoints que declaram o parâmetro (listagens); os demais ignoram um "fields" avulso
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+
+        if (!super.supports(returnType, converterType) || returnType.getMethod() == null) {
+            return false;
+        }
+
+        for (Parameter parameter : returnType.getMethod().getParameters()) {
+            RequestParam param = parameter.getAnnotation(RequestParam.class);
+            if (param != null && EvaluationFields.PARAMETER.equals(param.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(
+            MappingJacksonValue bodyContainer,
+            MediaType contentType,
+            MethodParameter returnType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        Set<EvaluationField> fields = EvaluationFields.parse(
+                servletRequest.getServletRequest().getParameter(EvaluationFields.PARAMETER));
+
+        if (fields != EvaluationField.ALL) {
+            bodyContainer.setFilters(EvaluationFields.only(fields));
+        }
+    }
+}
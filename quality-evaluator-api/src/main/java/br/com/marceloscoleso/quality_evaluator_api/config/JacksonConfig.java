@@ -0,0 +1,17 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationFields;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // EvaluationResponseDTO usa @JsonFilter: sem um filtro registrado o Jackson recusa serializá-lo
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer evaluationFieldsFilter() {
+        return builder -> builder.filters(EvaluationFields.ALL);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+// Diagnóstico de consultas por requisição (app.diagnostics.query-count.enabled), usado pelo teste de carga
+@Configuration
+@ConditionalOnProperty(name = "app.diagnostics.query-count.enabled", havingValue = "true")
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    // Leva o contador da requisição para o executor das respostas assíncronas do MVC
+    @Bean
+    public TaskDecorator queryCountTaskDecorator() {
+        return task -> {
+            QueryCounter.Count count = QueryCounter.current();
+            return () -> {
+                QueryCounter.Count previous = QueryCounter.bind(count);
+                try {
+                    task.run();
+                } finally {
+                    QueryCounter.bind(previous);
+                }
+            };
+        };
+    }
+}
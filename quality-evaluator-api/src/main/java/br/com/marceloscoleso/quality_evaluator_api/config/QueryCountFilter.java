@@ -0,0 +1,86 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Registra em db.queries{method,uri} quantos comandos SQL cada requisição executou.
+ * Fica antes da cadeia do Spring Security para incluir as consultas da autenticação.
+ * Em requisições assíncronas (exportação CSV) o mesmo contador segue para a thread do
+ * executor e o registro acontece no dispatch final.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.diagnostics.query-count.enabled", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String COUNT_ATTRIBUTE = QueryCountFilter.class.getName() + ".count";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        QueryCounter.Count count = (QueryCounter.Count) request.getAttribute(COUNT_ATTRIBUTE);
+
+        if (count == null) {
+            count = new QueryCounter.Count();
+            request.setAttribute(COUNT_ATTRIBUTE, count);
+        }
+
+        QueryCounter.Count previous = QueryCounter.bind(count);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.bind(previous);
+
+            if (!request.isAsyncStarted()) {
+                summary(request).record(count.get());
+            }
+        }
+    }
+
+    private DistributionSummary summary(HttpServletRequest request) {
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+
+        return summaries.computeIfAbsent(method + " " + uri, key ->
+                DistributionSummary.builder("db.queries")
+                        .description("Comandos SQL por requisição")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Conta os comandos SQL preparados pelo Hibernate para o contador vinculado à thread atual
+public final class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+
+    public static Count current() {
+        return CURRENT.get();
+    }
+
+    // Retorna o contador anterior, para ser restaurado ao final
+    public static Count bind(Count count) {
+
+        Count previous = CURRENT.get();
+
+        if (count == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(count);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public String inspect(String sql) {
+
+        Count count = CURRENT.get();
+
+        if (count != null) {
+            count.value.incrementAndGet();
+        }
+
+        return sql;
+    }
+
+    public static final class Count {
+
+        private final AtomicLong value = new AtomicLong();
+
+        public long get() {
+            return value.get();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Chaves de cache escopadas por usuário. Cada usuário tem uma versão dos dados (users.data_version)
+ * que é incrementada a cada escrita: as entradas antigas dele deixam de ser encontradas (e saem
+ * por tamanho/TTL) sem afetar o cache dos demais usuários. A mesma versão gera os ETags.
+ *
+ * A cópia em memória só avança depois do commit, com o valor gravado: uma entrada calculada
+ * com a versão N nunca tem dados anteriores a N, e a versão continua subindo após reiniciar.
+ */
+@Component("userCacheKeys")
+public class UserCacheKeys {
+
+    private final ConcurrentMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate ownTransaction;
+
+    public UserCacheKeys(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public Key of(Object discriminator) {
+        Long userId = AuthenticatedUser.current().getId();
+        return new Key(userId, version(userId), discriminator);
+    }
+
+    public long version(Long userId) {
+
+        Long version = versions.get(userId);
+        if (version != null) {
+            return version;
+        }
+
+        // Fora de computeIfAbsent: a consulta não roda dentro do lock do mapa
+        long stored = userRepository.findDataVersion(userId).orElse(0L);
+        return versions.merge(userId, stored, Math::max);
+    }
+
+    // Dentro de uma transação, a versão sobe junto com a escrita; fora dela, numa transação própria
+    public void invalidate(Long userId) {
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            long version = ownTransaction.execute(status -> increment(userId));
+            versions.merge(userId, version, Math::max);
+            return;
+        }
+
+        long version = increment(userId);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.merge(userId, version, Math::max);
+            }
+        });
+    }
+
+    public void forget(Long userId) {
+        versions.remove(userId);
+    }
+
+    private long increment(Long userId) {
+        userRepository.incrementDataVersion(userId);
+        return userRepository.findDataVersion(userId).orElse(0L);
+    }
+
+    public static final class Key {
+
+        private final Long userId;
+        private final long version;
+        private final Object discriminator;
+
+        private Key(Long userId, long version, Object discriminator) {
+            this.userId = userId;
+            this.version = version;
+            this.discriminator = discriminator;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return version == other.version
+                    && userId.equals(other.userId)
+                    && Objects.equals(discriminator, other.discriminator);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, version, discriminator);
+        }
+
+        @Override
+        public String toString() {
+            return userId + ":" + version + ":" + discriminator;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * ETags fortes das leituras do usuário: versão dos dados (UserCacheKeys) + usuário, caminho e
+ * parâmetros da requisição. A versão está em memória, então o If-None-Match é respondido com 304
+ * antes de qualquer consulta às avaliações ou serialização.
+ */
+@Component
+public class UserETags {
+
+    // O navegador guarda a resposta, mas revalida a cada uso
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final UserCacheKeys userCacheKeys;
+
+    public UserETags(UserCacheKeys userCacheKeys) {
+        this.userCacheKeys = userCacheKeys;
+    }
+
+    // true: 304 já preparado, o controller devolve null. false: o ETag vai na resposta 200
+    public boolean notModified(NativeWebRequest request) {
+
+        Long userId = AuthenticatedUser.current().getId();
+        long version = userCacheKeys.version(userId);
+
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        String resource = userId + " " + servletRequest.getRequestURI() + "?" + servletRequest.getQueryString();
+        String digest = DigestUtils.md5DigestAsHex(resource.getBytes(StandardCharsets.UTF_8));
+
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+
+        return request.checkNotModified("\"" + version + "-" + digest + "\"");
+    }
+}
@@ -13,6 +13,8 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(
         name = "Authentication",
         description = "Endpoints responsáveis pelo registro e autenticação de usuários"
@@ -62,10 +64,11 @@ public class AuthController {
                             schema = @Schema(implementation = LoginResponseDTO.class)
                     )
             ),
-            @ApiResponse(responseCode = "401", description = "Credenciais inválidas")
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas"),
+            @ApiResponse(responseCode = "503", description = "Muitas autenticações simultâneas; ver Retry-After")
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> login(
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     required = true,
                     description = "Credenciais de login",
@@ -84,11 +87,9 @@ public class AuthController {
             @RequestBody @Valid LoginRequestDTO request
     ) {
 
-        String token = userService.login(
+        return userService.login(
                 request.getEmail(),
                 request.getPassword()
-        );
-
-        return ResponseEntity.ok(new LoginResponseDTO(token));
+        ).thenApply(token -> ResponseEntity.ok(new LoginResponseDTO(token)));
     }
 }
@@ -3,9 +3,13 @@ package br.com.marceloscoleso.quality_evaluator_api.controller;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationResponseDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationStatsDTO;
+import br.com.marceloscoleso.quality_evaluator_api.service.DashboardEventsService;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationAnalyticsService;
 import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationService;
 import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
 import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,16 +22,28 @@ import jakarta.validation.Valid;
 
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.UserETags;
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.CursorPageDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationBatchResultDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationFilterDTO;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationFields;
 
 @Tag(
         name = "Evaluations",
@@ -38,9 +54,20 @@ import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationFilterDTO;
 public class EvaluationController {
 
     private final EvaluationService evaluationService;
-
-    public EvaluationController(EvaluationService evaluationService) {
+    private final DashboardEventsService dashboardEventsService;
+    private final EvaluationAnalyticsService analyticsService;
+    private final UserETags eTags;
+
+    public EvaluationController(
+            EvaluationService evaluationService,
+            DashboardEventsService dashboardEventsService,
+            EvaluationAnalyticsService analyticsService,
+            UserETags eTags
+    ) {
         this.evaluationService = evaluationService;
+        this.dashboardEventsService = dashboardEventsService;
+        this.analyticsService = analyticsService;
+        this.eTags = eTags;
     }
 
     @Operation(
@@ -91,6 +118,37 @@ public class EvaluationController {
         return evaluationService.create(request);
     }
 
+    @Operation(
+            summary = "Criar avaliações em lote",
+            description = """
+            Cria várias avaliações em uma única transação.
+            Cada item é validado individualmente: itens inválidos são rejeitados
+            sem impedir a criação dos demais, e a resposta traz o resultado
+            de cada item na ordem em que foi enviado.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote processado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EvaluationBatchResultDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    @PostMapping("/batch")
+    public EvaluationBatchResultDTO createBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Lista de projetos a serem avaliados"
+            )
+            @RequestBody List<EvaluationRequestDTO> requests
+    ) {
+        return evaluationService.createBatch(requests);
+    }
+
     @Operation(
             summary = "Listar avaliações",
             description = "Lista todas as avaliações com paginação"
@@ -113,8 +171,20 @@ public class EvaluationController {
                     description = "Ordenação no formato campo,asc|desc",
                     example = "createdAt,desc"
             )
-            @RequestParam(defaultValue = "createdAt,desc") String sort
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+
+            @Parameter(
+                    description = "Campos da resposta separados por vírgula; só eles são lidos do banco (vazio traz todos)",
+                    example = "id,projectName,score"
+            )
+            @RequestParam(name = EvaluationFields.PARAMETER, required = false) String fields,
+
+            NativeWebRequest webRequest
     ) {
+        if (eTags.notModified(webRequest)) {
+            return null;
+        }
+
         Sort sortObj = Sort.by(
         sort.endsWith(",asc")
                 ? Sort.Order.asc(java.util.Objects.requireNonNull(sort.replace(",asc", "")))
@@ -122,7 +192,47 @@ public class EvaluationController {
     );
 
         Pageable pageable = PageRequest.of(page, size, sortObj);
-        return evaluationService.findAll(pageable);
+        return evaluationService.findAll(pageable, EvaluationFields.parse(fields));
+    }
+
+    @Operation(
+            summary = "Listar avaliações por cursor",
+            description = """
+            Lista as avaliações ordenadas da mais recente para a mais antiga
+            usando paginação por cursor (keyset), sem contagem total.
+
+            Envie o parâmetro cursor vazio para a primeira página e, em seguida,
+            o valor de nextCursor retornado para buscar as próximas.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de avaliações retornada com sucesso"
+            ),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping(params = "cursor")
+    public CursorPageDTO<EvaluationResponseDTO> findAllByCursor(
+            @Parameter(description = "Cursor opaco da página anterior (vazio na primeira página)", example = "")
+            @RequestParam String cursor,
+
+            @Parameter(description = "Quantidade de registros por página (máximo 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(
+                    description = "Campos da resposta separados por vírgula; só eles são lidos do banco (vazio traz todos)",
+                    example = "id,projectName,score"
+            )
+            @RequestParam(name = EvaluationFields.PARAMETER, required = false) String fields,
+
+            NativeWebRequest webRequest
+    ) {
+        if (eTags.notModified(webRequest)) {
+            return null;
+        }
+
+        return evaluationService.findAll(cursor, size, EvaluationFields.parse(fields));
     }
 
     @Operation(
@@ -143,8 +253,14 @@ public class EvaluationController {
     @GetMapping("/{id}")
     public EvaluationResponseDTO findById(
             @Parameter(description = "ID da avaliação", example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+
+            NativeWebRequest webRequest
     ) {
+        if (eTags.notModified(webRequest)) {
+            return null;
+        }
+
         return evaluationService.findById(id);
     }
 
@@ -297,8 +413,20 @@ public Page<EvaluationResponseDTO> filter(
 
         @RequestParam(defaultValue = "6") int size,
 
-        @RequestParam(defaultValue = "createdAt,desc") String sort
+        @RequestParam(defaultValue = "createdAt,desc") String sort,
+
+        @Parameter(
+                description = "Campos da resposta separados por vírgula; só eles são lidos do banco (vazio traz todos)",
+                example = "id,projectName,score"
+        )
+        @RequestParam(name = EvaluationFields.PARAMETER, required = false) String fields,
+
+        NativeWebRequest webRequest
 ) {
+    if (eTags.notModified(webRequest)) {
+        return null;
+    }
+
         Sort sortObj = Sort.by(
         sort.endsWith(",asc")
                 ? Sort.Order.asc(sort.replace(",asc", ""))
@@ -325,7 +453,172 @@ Pageable pageable = PageRequest.of(page, size, sortObj);
     
     
 
-    return evaluationService.filter(filter, pageable);
+    return evaluationService.filter(filter, pageable, EvaluationFields.parse(fields));
+}
+
+@Operation(
+        summary = "Filtrar avaliações por cursor",
+        description = """
+        Mesmos filtros de /filter, com paginação por cursor (keyset)
+        ordenada da avaliação mais recente para a mais antiga e sem contagem total.
+
+        Envie o parâmetro cursor vazio para a primeira página e, em seguida,
+        o valor de nextCursor retornado para buscar as próximas.
+        """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "Página de avaliações filtradas retornada com sucesso"
+        ),
+        @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos")
+})
+@GetMapping(value = "/filter", params = "cursor")
+public CursorPageDTO<EvaluationResponseDTO> filterByCursor(
+
+        @Parameter(description = "Nome do projeto (parcial)", example = "quality")
+        @RequestParam(required = false) String projectName,
+
+        @Parameter(description = "Linguagem do projeto", example = "JAVA")
+        @RequestParam(required = false) Language language,
+
+        @Parameter(description = "Score mínimo", example = "60")
+        @RequestParam(required = false) Integer minScore,
+
+        @Parameter(description = "Score máximo", example = "90")
+        @RequestParam(required = false) Integer maxScore,
+
+        @Parameter(description = "Classificação", example = "BOM")
+        @RequestParam(required = false) Classification classification,
+
+        @Parameter(description = "Data inicial (yyyy-MM-dd)", example = "2024-01-01")
+        @RequestParam(required = false) String startDate,
+
+        @Parameter(description = "Data final (yyyy-MM-dd)", example = "2024-12-31")
+        @RequestParam(required = false) String endDate,
+
+        @Parameter(description = "Cursor opaco da página anterior (vazio na primeira página)", example = "")
+        @RequestParam String cursor,
+
+        @RequestParam(defaultValue = "6") int size,
+
+        @Parameter(
+                description = "Campos da resposta separados por vírgula; só eles são lidos do banco (vazio traz todos)",
+                example = "id,projectName,score"
+        )
+        @RequestParam(name = EvaluationFields.PARAMETER, required = false) String fields,
+
+        NativeWebRequest webRequest
+) {
+    if (eTags.notModified(webRequest)) {
+        return null;
+    }
+
+    EvaluationFilterDTO filter = new EvaluationFilterDTO();
+    filter.setProjectName(projectName);
+    filter.setClassification(classification);
+    filter.setMinScore(minScore);
+    filter.setMaxScore(maxScore);
+    filter.setLanguage(language);
+
+    if (startDate != null) {
+        filter.setStartDate(java.time.LocalDate.parse(startDate));
+    }
+
+    if (endDate != null) {
+        filter.setEndDate(java.time.LocalDate.parse(endDate));
+    }
+
+    return evaluationService.filter(filter, cursor, size, EvaluationFields.parse(fields));
+}
+
+@Operation(
+        summary = "Transmite as avaliações do usuário",
+        description = """
+        Envia cada avaliação assim que é lida, sem montar a página inteira em memória.
+        Use Accept: application/x-ndjson (um JSON por linha) ou text/event-stream (SSE).
+        Ordem: data de criação decrescente. Aceita os mesmos filtros de /filter.
+        """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "Fluxo de avaliações",
+                content = {
+                        @Content(
+                                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                schema = @Schema(implementation = EvaluationResponseDTO.class)
+                        ),
+                        @Content(
+                                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                schema = @Schema(implementation = EvaluationResponseDTO.class)
+                        )
+                }
+        ),
+        @ApiResponse(responseCode = "400", description = "Filtros inválidos")
+})
+@GetMapping(
+        value = "/stream",
+        produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE}
+)
+public Flux<?> stream(
+
+        @Parameter(description = "Nome do projeto (parcial)", example = "quality")
+        @RequestParam(required = false) String projectName,
+
+        @Parameter(description = "Linguagem do projeto", example = "JAVA")
+        @RequestParam(required = false) Language language,
+
+        @Parameter(description = "Score mínimo", example = "60")
+        @RequestParam(required = false) Integer minScore,
+
+        @Parameter(description = "Score máximo", example = "90")
+        @RequestParam(required = false) Integer maxScore,
+
+        @Parameter(description = "Classificação", example = "BOM")
+        @RequestParam(required = false) Classification classification,
+
+        @Parameter(description = "Data inicial (yyyy-MM-dd)", example = "2024-01-01")
+        @RequestParam(required = false) String startDate,
+
+        @Parameter(description = "Data final (yyyy-MM-dd)", example = "2024-12-31")
+        @RequestParam(required = false) String endDate,
+
+        @Parameter(
+                description = "Campos da resposta separados por vírgula; só eles são lidos do banco (vazio traz todos)",
+                example = "id,projectName,score"
+        )
+        @RequestParam(name = EvaluationFields.PARAMETER, required = false) String fields
+) {
+    EvaluationFilterDTO filter = new EvaluationFilterDTO();
+    filter.setProjectName(projectName);
+    filter.setLanguage(language);
+    filter.setMinScore(minScore);
+    filter.setMaxScore(maxScore);
+    filter.setClassification(classification);
+
+    if (startDate != null) {
+        filter.setStartDate(java.time.LocalDate.parse(startDate));
+    }
+
+    if (endDate != null) {
+        filter.setEndDate(java.time.LocalDate.parse(endDate));
+    }
+
+    Set<EvaluationField> selected = EvaluationFields.parse(fields);
+    Flux<EvaluationResponseDTO> rows = evaluationService.stream(filter, selected);
+
+    // Itens do Flux não passam pelo EvaluationFieldsAdvice: o filtro de campos vai em cada um
+    if (selected == EvaluationField.ALL) {
+        return rows;
+    }
+
+    FilterProvider filters = EvaluationFields.only(selected);
+    return rows.map(row -> {
+        MappingJacksonValue value = new MappingJacksonValue(row);
+        value.setFilters(filters);
+        return value;
+    });
 }
 
 @Operation(
@@ -333,7 +626,11 @@ Pageable pageable = PageRequest.of(page, size, sortObj);
         description = "Retorna total de avaliações, média de score e quantidade de classificações EXCELENTE"
 )
 @GetMapping("/stats")
-public EvaluationStatsDTO getStats() {
+public EvaluationStatsDTO getStats(NativeWebRequest webRequest) {
+    if (eTags.notModified(webRequest)) {
+        return null;
+    }
+
     return evaluationService.getStats();
 }
 
@@ -342,10 +639,88 @@ public EvaluationStatsDTO getStats() {
         description = "Retorna informações para Dashboard"
 )
 @GetMapping("/dashboard")
-public DashboardSummaryDTO dashboard() {
+public DashboardSummaryDTO dashboard(NativeWebRequest webRequest) {
+    if (eTags.notModified(webRequest)) {
+        return null;
+    }
+
     return evaluationService.getDashboardSummary();
 
 }
+
+@Operation(
+        summary = "Agregações ad hoc das avaliações",
+        description = """
+        Agrupa as avaliações do usuário por até 3 dimensões e calcula uma métrica por grupo.
+
+        Dimensões (groupBy): language, classification, hasTests, usesGit, complexity,
+        linesOfCode (por ordem de grandeza: 1-9, 10-99, ...) e createdAt.
+        Métricas (metric): count, ou sum, avg, min, max de score, complexity ou linesOfCode.
+        Período (bucket): day, week, month ou year. Com bucket, createdAt entra no
+        agrupamento mesmo que não esteja em groupBy; cada grupo traz o primeiro dia do período.
+
+        Exemplo:
+        GET /api/evaluations/analytics?groupBy=language,classification&metric=avg(score)&bucket=week
+        """
+)
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Grupos calculados"),
+        @ApiResponse(responseCode = "400", description = "Dimensão, métrica, período ou datas inválidos")
+})
+@GetMapping("/analytics")
+public AnalyticsResultDTO analytics(
+
+        @Parameter(description = "Dimensões separadas por vírgula", example = "language,classification")
+        @RequestParam(required = false) String groupBy,
+
+        @Parameter(description = "Métrica calculada em cada grupo", example = "avg(score)")
+        @RequestParam(defaultValue = "count") String metric,
+
+        @Parameter(description = "Período de createdAt (day, week, month, year)", example = "week")
+        @RequestParam(required = false) String bucket,
+
+        @Parameter(description = "Data inicial (yyyy-MM-dd)", example = "2024-01-01")
+        @RequestParam(required = false) String startDate,
+
+        @Parameter(description = "Data final (yyyy-MM-dd)", example = "2024-12-31")
+        @RequestParam(required = false) String endDate
+) {
+    return analyticsService.query(AnalyticsQuery.parse(
+            groupBy,
+            metric,
+            bucket,
+            startDate == null ? null : java.time.LocalDate.parse(startDate),
+            endDate == null ? null : java.time.LocalDate.parse(endDate)
+    ));
+}
+
+@Operation(
+        summary = "Atualizações do dashboard em tempo real (SSE)",
+        description = """
+        Abre um canal Server-Sent Events com o dashboard do usuário autenticado.
+
+        Eventos:
+        - snapshot: dashboard completo, enviado ao conectar
+        - delta: apenas os valores alterados após cada escrita (valores absolutos;
+          linguagem com 0 ou dia com null indicam remoção)
+        - comentários de heartbeat periódicos mantêm a conexão aberta
+
+        Conexões acima do limite por usuário encerram a mais antiga. Clientes lentos
+        são desconectados e recebem um novo snapshot ao reconectar.
+        """
+)
+@ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "Canal aberto",
+                content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @ApiResponse(responseCode = "503", description = "Limite global de conexões atingido")
+})
+@GetMapping(value = "/dashboard/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+public SseEmitter dashboardEvents() {
+    return dashboardEventsService.subscribe();
+}
 @Operation(
         summary = "Exporta avaliações em CSV com filtros",
         description = """
@@ -379,7 +754,7 @@ public DashboardSummaryDTO dashboard() {
         )
 })      
 @GetMapping(value = "/export/csv", produces = "text/csv")
-public ResponseEntity<byte[]> exportCsv(
+public ResponseEntity<StreamingResponseBody> exportCsv(
         @Parameter(description = "Nome do projeto (parcial)", example = "quality")
         @RequestParam(required = false) String projectName,
 
@@ -417,7 +792,7 @@ public ResponseEntity<byte[]> exportCsv(
         filter.setEndDate(java.time.LocalDate.parse(endDate));
     }
 
-    byte[] csv = evaluationService.exportCsv(filter);
+    StreamingResponseBody csv = evaluationService.exportCsv(filter);
 
     return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=evaluations.csv")
@@ -20,16 +20,6 @@ public class MonitoringController {
     private final InfoEndpoint infoEndpoint;
     private final MeterRegistry meterRegistry;
 
-    private final String[] customMetrics = {
-            "business.evaluations.create.time",
-            "business.evaluations.created",
-            "business.evaluations.not_found",
-            "business.projects.create.time",
-            "business.projects.created",
-            "business.projects.listed",
-            "business.projects.not_found"
-    };
-
     public MonitoringController(
             HealthEndpoint healthEndpoint,
             InfoEndpoint infoEndpoint,
@@ -59,7 +49,7 @@ public class MonitoringController {
     @GetMapping("/metrics")
     public String metrics(Model model) {
 
-        Map<String, Object> metricsWithValues = new LinkedHashMap<>();
+        Map<String, Double> metricsWithValues = new LinkedHashMap<>();
 
         meterRegistry.getMeters().forEach(meter -> {
             String name = meter.getId().getName();
@@ -73,14 +63,10 @@ public class MonitoringController {
                 value = meter.measure().iterator().next().getValue();
             }
 
-            metricsWithValues.put(name, value);
+            // Medidores com tags (ex.: created por classificação/linguagem) somados por nome
+            metricsWithValues.merge(name, value, Double::sum);
         });
 
-        
-        for (String metric : customMetrics) {
-            metricsWithValues.putIfAbsent(metric, 0.0);
-        }
-
         model.addAttribute("metrics", metricsWithValues);
         return "metrics";
     }
@@ -0,0 +1,30 @@
+package br.com.marceloscoleso.quality_evaluator_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Um grupo da agregação")
+public class AnalyticsGroupDTO {
+
+    @Schema(description = "Valor de cada dimensão do groupBy (createdAt traz o primeiro dia do período)",
+            example = "{\"language\": \"JAVA\", \"createdAt\": \"2024-03-04\"}")
+    private final Map<String, Object> key;
+
+    @Schema(description = "Quantidade de avaliações no grupo", example = "42")
+    private final long count;
+
+    @Schema(description = "Valor da métrica no grupo; null quando nenhuma avaliação do grupo tem o campo medido",
+            example = "71.5")
+    private final Number value;
+
+    public AnalyticsGroupDTO(Map<String, Object> key, long count, Number value) {
+        this.key = key;
+        this.count = count;
+        this.value = value;
+    }
+
+    public Map<String, Object> getKey() { return key; }
+    public long getCount() { return count; }
+    public Number getValue() { return value; }
+}
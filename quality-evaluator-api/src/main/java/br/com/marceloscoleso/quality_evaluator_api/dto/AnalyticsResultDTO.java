@@ -0,0 +1,44 @@
+package br.com.marceloscoleso.quality_evaluator_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado de uma agregação ad hoc das avaliações")
+public class AnalyticsResultDTO {
+
+    @Schema(description = "Dimensões usadas, na ordem das chaves", example = "[\"language\", \"classification\"]")
+    private final List<String> groupBy;
+
+    @Schema(description = "Métrica calculada", example = "avg(score)")
+    private final String metric;
+
+    @Schema(description = "Período de createdAt, quando agrupado por data", example = "week")
+    private final String bucket;
+
+    @Schema(description = "Avaliações consideradas (dentro do período pedido)", example = "1200")
+    private final long evaluations;
+
+    @Schema(description = "Grupos não vazios, ordenados pelas dimensões")
+    private final List<AnalyticsGroupDTO> groups;
+
+    public AnalyticsResultDTO(
+            List<String> groupBy,
+            String metric,
+            String bucket,
+            long evaluations,
+            List<AnalyticsGroupDTO> groups
+    ) {
+        this.groupBy = groupBy;
+        this.metric = metric;
+        this.bucket = bucket;
+        this.evaluations = evaluations;
+        this.groups = groups;
+    }
+
+    public List<String> getGroupBy() { return groupBy; }
+    public String getMetric() { return metric; }
+    public String getBucket() { return bucket; }
+    public long getEvaluations() { return evaluations; }
+    public List<AnalyticsGroupDTO> getGroups() { return groups; }
+}
@@ -0,0 +1,33 @@
+package br.com.marceloscoleso.quality_evaluator_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página de resultados navegada por cursor, sem contagem total")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Itens da página")
+    private final List<T> content;
+
+    @Schema(description = "Quantidade de itens retornados", example = "10")
+    private final int size;
+
+    @Schema(description = "Indica se existem mais itens após esta página", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "Cursor opaco para buscar a próxima página", example = "MjAyNC0wMS0wMVQxMDowMDo0Mnw0Mg")
+    private final String nextCursor;
+
+    public CursorPageDTO(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() { return content; }
+    public int getSize() { return size; }
+    public boolean isHasNext() { return hasNext; }
+    public String getNextCursor() { return nextCursor; }
+}
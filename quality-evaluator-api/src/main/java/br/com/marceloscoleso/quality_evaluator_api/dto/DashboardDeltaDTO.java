@@ -0,0 +1,44 @@
+package br.com.marceloscoleso.quality_evaluator_api.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// Alteração incremental do dashboard: só as chaves afetadas, sempre com o valor atual (não a diferença).
+// Contagem 0 em linguagem e null em scoreEvolution indicam que a entrada deixou de existir.
+public class DashboardDeltaDTO {
+
+    private long total;
+    private double averageScore;
+    private double testsPercentage;
+    private double gitPercentage;
+
+    private Map<String, Long> classifications;
+    private Map<String, Long> byLanguage;
+    private Map<LocalDate, Double> scoreEvolution;
+
+    public DashboardDeltaDTO(
+            long total,
+            double averageScore,
+            double testsPercentage,
+            double gitPercentage,
+            Map<String, Long> classifications,
+            Map<String, Long> byLanguage,
+            Map<LocalDate, Double> scoreEvolution
+    ) {
+        this.total = total;
+        this.averageScore = averageScore;
+        this.testsPercentage = testsPercentage;
+        this.gitPercentage = gitPercentage;
+        this.classifications = classifications;
+        this.byLanguage = byLanguage;
+        this.scoreEvolution = scoreEvolution;
+    }
+
+    public long getTotal() { return total; }
+    public double getAverageScore() { return averageScore; }
+    public double getTestsPercentage() { return testsPercentage; }
+    public double getGitPercentage() { return gitPercentage; }
+    public Map<String, Long> getClassifications() { return classifications; }
+    public Map<String, Long> getByLanguage() { return byLanguage; }
+    public Map<LocalDate, Double> getScoreEvolution() { return scoreEvolution; }
+}
@@ -0,0 +1,44 @@
+package br.com.marceloscoleso.quality_evaluator_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de um item do lote de avaliações")
+public class EvaluationBatchItemDTO {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    @Schema(description = "Posição do item no lote enviado (começa em 0)", example = "0")
+    private final int index;
+
+    @Schema(description = "Situação do item", example = "CREATED")
+    private final Status status;
+
+    @Schema(description = "Avaliação criada, quando o item foi aceito")
+    private final EvaluationResponseDTO evaluation;
+
+    @Schema(description = "Motivo da falha, quando o item foi rejeitado", example = "linesOfCode: must be greater than or equal to 1")
+    private final String error;
+
+    private EvaluationBatchItemDTO(int index, Status status, EvaluationResponseDTO evaluation, String error) {
+        this.index = index;
+        this.status = status;
+        this.evaluation = evaluation;
+        this.error = error;
+    }
+
+    public static EvaluationBatchItemDTO created(int index, EvaluationResponseDTO evaluation) {
+        return new EvaluationBatchItemDTO(index, Status.CREATED, evaluation, null);
+    }
+
+    public static EvaluationBatchItemDTO failed(int index, String error) {
+        return new EvaluationBatchItemDTO(index, Status.FAILED, null, error);
+    }
+
+    public int getIndex() { return index; }
+    public Status getStatus() { return status; }
+    public EvaluationResponseDTO getEvaluation() { return evaluation; }
+    public String getError() { return error; }
+}
@@ -0,0 +1,35 @@
+package br.com.marceloscoleso.quality_evaluator_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado da criação de avaliações em lote")
+public class EvaluationBatchResultDTO {
+
+    @Schema(description = "Quantidade de itens recebidos", example = "3")
+    private final int total;
+
+    @Schema(description = "Quantidade de avaliações criadas", example = "2")
+    private final int created;
+
+    @Schema(description = "Quantidade de itens rejeitados", example = "1")
+    private final int failed;
+
+    @Schema(description = "Resultado de cada item, na ordem do lote")
+    private final List<EvaluationBatchItemDTO> items;
+
+    public EvaluationBatchResultDTO(List<EvaluationBatchItemDTO> items) {
+        this.items = items;
+        this.total = items.size();
+        this.created = (int) items.stream()
+                .filter(i -> i.getStatus() == EvaluationBatchItemDTO.Status.CREATED)
+                .count();
+        this.failed = total - created;
+    }
+
+    public int getTotal() { return total; }
+    public int getCreated() { return created; }
+    public int getFailed() { return failed; }
+    public List<EvaluationBatchItemDTO> getItems() { return items; }
+}
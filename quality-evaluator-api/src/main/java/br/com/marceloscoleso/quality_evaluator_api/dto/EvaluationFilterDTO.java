@@ -5,6 +5,7 @@ import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 public class EvaluationFilterDTO {
 
@@ -85,5 +86,22 @@ public class EvaluationFilterDTO {
         this.language = language;
     }
 
-    
+    // Parte da chave de requisições iguais (SingleFlight)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EvaluationFilterDTO other)) return false;
+        return Objects.equals(startDate, other.startDate)
+                && Objects.equals(endDate, other.endDate)
+                && Objects.equals(projectName, other.projectName)
+                && classification == other.classification
+                && Objects.equals(minScore, other.minScore)
+                && Objects.equals(maxScore, other.maxScore)
+                && language == other.language;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, projectName, classification, minScore, maxScore, language);
+    }
 }
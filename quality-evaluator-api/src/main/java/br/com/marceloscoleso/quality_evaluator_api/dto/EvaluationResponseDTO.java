@@ -1,12 +1,16 @@
 package br.com.marceloscoleso.quality_evaluator_api.dto;
 
 import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
 import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 
 @Schema(description = "Dados retornados após a criação ou consulta de uma avaliação")
+@JsonFilter(EvaluationFields.FILTER_ID)
 public class EvaluationResponseDTO {
 
     @Schema(description = "ID da avaliação", example = "1")
@@ -45,6 +49,9 @@ public class EvaluationResponseDTO {
     @Schema(description = "Descrição detalhada do projeto ou análise da IA", example = "Este projeto implementa um sistema de avaliação de qualidade de software com métricas avançadas, testes automatizados e versionamento Git.")
     private String description;
 
+    @Schema(description = "Situação da descrição: READY ou PENDING enquanto é gerada em segundo plano", example = "READY")
+    private DescriptionStatus descriptionStatus;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -81,4 +88,7 @@ public class EvaluationResponseDTO {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public DescriptionStatus getDescriptionStatus() { return descriptionStatus; }
+    public void setDescriptionStatus(DescriptionStatus descriptionStatus) { this.descriptionStatus = descriptionStatus; }
+
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package br.com.marceloscoleso.quality_evaluator_api.event;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+
+// Avaliação gravada com descrição pendente; a geração começa após o commit
+public class DescriptionRequestedEvent {
+
+    private final Long evaluationId;
+    private final Long userId;
+    private final EvaluationRequestDTO request;
+    private final int score;
+    private final Classification classification;
+
+    public DescriptionRequestedEvent(
+            Long evaluationId,
+            Long userId,
+            EvaluationRequestDTO request,
+            int score,
+            Classification classification
+    ) {
+        this.evaluationId = evaluationId;
+        this.userId = userId;
+        this.request = request;
+        this.score = score;
+        this.classification = classification;
+    }
+
+    public Long getEvaluationId() { return evaluationId; }
+    public Long getUserId() { return userId; }
+    public EvaluationRequestDTO getRequest() { return request; }
+    public int getScore() { return score; }
+    public Classification getClassification() { return classification; }
+}
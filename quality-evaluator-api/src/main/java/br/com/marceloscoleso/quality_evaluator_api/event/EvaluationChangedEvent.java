@@ -0,0 +1,29 @@
+package br.com.marceloscoleso.quality_evaluator_api.event;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+
+// Publicado dentro da transação de escrita; os listeners reagem após o commit
+public class EvaluationChangedEvent {
+
+    private final Long userId;
+    private final String username;
+    private final EvaluationSnapshot before;
+    private final EvaluationSnapshot after;
+
+    public EvaluationChangedEvent(
+            Long userId,
+            String username,
+            EvaluationSnapshot before,
+            EvaluationSnapshot after
+    ) {
+        this.userId = userId;
+        this.username = username;
+        this.before = before;
+        this.after = after;
+    }
+
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public EvaluationSnapshot getBefore() { return before; }
+    public EvaluationSnapshot getAfter() { return after; }
+}
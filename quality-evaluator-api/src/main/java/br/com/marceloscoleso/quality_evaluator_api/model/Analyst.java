@@ -0,0 +1,32 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import jakarta.persistence.*;
+
+// Dicionário dos nomes em "analyzedBy": poucos nomes repetidos em muitas avaliações,
+// que guardam só o id (AnalystConverter)
+@Entity
+@Table(name = "analysts")
+public class Analyst {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    public Analyst() {
+    }
+
+    public Analyst(String name) {
+        this.name = name;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
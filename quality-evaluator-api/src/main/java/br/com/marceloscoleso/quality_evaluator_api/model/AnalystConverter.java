@@ -0,0 +1,32 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import br.com.marceloscoleso.quality_evaluator_api.service.AnalystService;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.ObjectProvider;
+
+// "analyzedBy" gravado como id do dicionário de analistas (tabela analysts). A entidade e o DTO
+// continuam vendo o nome. Só consulta o dicionário em memória: nada de banco nem de transação
+// durante o flush ou a leitura de entidades.
+@Converter
+public class AnalystConverter implements AttributeConverter<String, Integer> {
+
+    // Instanciado pelo Hibernate através do Spring; o serviço é resolvido no primeiro uso,
+    // quando o EntityManagerFactory de que ele depende já está pronto
+    private final ObjectProvider<AnalystService> analystService;
+
+    public AnalystConverter(ObjectProvider<AnalystService> analystService) {
+        this.analystService = analystService;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        return name == null ? null : analystService.getObject().idOf(name);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : analystService.getObject().nameOf(id);
+    }
+}
@@ -2,8 +2,29 @@ package br.com.marceloscoleso.quality_evaluator_api.model;
 
 public enum Classification {
 
-    EXCELENTE,
-    BOM,
-    REGULAR,
-    RUIM;
+    EXCELENTE(3),
+    BOM(2),
+    REGULAR(1),
+    RUIM(0);
+
+    // Código gravado no banco (ClassificationConverter): fixo, não depende da ordem das constantes.
+    // Cresce com a qualidade, então ordenar pela coluna vai de RUIM a EXCELENTE.
+    private final short code;
+
+    Classification(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static Classification fromCode(short code) {
+        for (Classification classification : values()) {
+            if (classification.code == code) {
+                return classification;
+            }
+        }
+        throw new IllegalArgumentException("Código de classificação desconhecido: " + code);
+    }
 }
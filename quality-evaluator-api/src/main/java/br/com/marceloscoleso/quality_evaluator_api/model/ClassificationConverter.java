@@ -0,0 +1,20 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Classificação como smallint: linha e índice (user_id, classification) menores, e o filtro
+// compara inteiros em vez de texto
+@Converter
+public class ClassificationConverter implements AttributeConverter<Classification, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Classification classification) {
+        return classification == null ? null : classification.getCode();
+    }
+
+    @Override
+    public Classification convertToEntityAttribute(Short code) {
+        return code == null ? null : Classification.fromCode(code);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class DailyScore {
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "evaluation_count", nullable = false)
+    private long count;
+
+    public DailyScore() {
+    }
+
+    public DailyScore(long scoreSum, long count) {
+        this.scoreSum = scoreSum;
+        this.count = count;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) scoreSum / count;
+    }
+}
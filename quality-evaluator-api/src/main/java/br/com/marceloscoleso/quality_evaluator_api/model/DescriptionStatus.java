@@ -0,0 +1,7 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+public enum DescriptionStatus {
+
+    READY,
+    PENDING;
+}
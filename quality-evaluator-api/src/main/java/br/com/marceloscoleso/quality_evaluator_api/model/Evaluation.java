@@ -9,8 +9,10 @@ import java.time.LocalDateTime;
 @Table(name = "evaluations")
 public class Evaluation {
 
+    // Sequence com alocação em blocos: IDENTITY impede o Hibernate de agrupar INSERTs em lote
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_seq")
+    @SequenceGenerator(name = "evaluation_seq", sequenceName = "evaluation_seq", allocationSize = 50)
     private Long id;
 
     private String projectName;
@@ -20,8 +22,11 @@ public class Evaluation {
 
     private int score;
 
-    private String classification;
+    @Convert(converter = ClassificationConverter.class)
+    private Classification classification;
 
+    @Convert(converter = AnalystConverter.class)
+    @Column(name = "analyst_id")
     private String analyzedBy;
 
     private boolean hasTests;
@@ -32,9 +37,16 @@ public class Evaluation {
 
     private Integer complexity;
 
+    // Texto só quando veio do usuário ou de outro gerador; descrições geradas por template ficam
+    // em descriptionTemplate e são montadas na leitura (DescriptionTemplates)
     @Lob
     private String description;
 
+    private Integer descriptionTemplate;
+
+    @Enumerated(EnumType.STRING)
+    private DescriptionStatus descriptionStatus = DescriptionStatus.READY;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
@@ -45,7 +57,7 @@ public class Evaluation {
     public Evaluation() {
     }
 
-    public Evaluation(String projectName, Language language, int score, String classification) {
+    public Evaluation(String projectName, Language language, int score, Classification classification) {
         this.projectName = projectName;
         this.language = language;
         this.score = score;
@@ -81,11 +93,11 @@ public class Evaluation {
         this.score = score;
     }
 
-    public String getClassification() {
+    public Classification getClassification() {
         return classification;
     }
 
-    public void setClassification(String classification) {
+    public void setClassification(Classification classification) {
         this.classification = classification;
     }
 
@@ -121,6 +133,22 @@ public void setDescription(String description) {
     this.description = description;
 }
 
+    public Integer getDescriptionTemplate() {
+        return descriptionTemplate;
+    }
+
+    public void setDescriptionTemplate(Integer descriptionTemplate) {
+        this.descriptionTemplate = descriptionTemplate;
+    }
+
+    public DescriptionStatus getDescriptionStatus() {
+        return descriptionStatus;
+    }
+
+    public void setDescriptionStatus(DescriptionStatus descriptionStatus) {
+        this.descriptionStatus = descriptionStatus;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
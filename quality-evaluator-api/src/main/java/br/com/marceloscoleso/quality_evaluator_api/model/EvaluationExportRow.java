@@ -0,0 +1,43 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import java.time.LocalDateTime;
+
+// Projeção por construtor da exportação CSV: só as colunas do arquivo, sem a descrição (@Lob)
+public class EvaluationExportRow {
+
+    private final String projectName;
+    private final Language language;
+    private final int score;
+    private final Classification classification;
+    private final LocalDateTime createdAt;
+
+    public EvaluationExportRow(
+            String projectName,
+            Language language,
+            int score,
+            Classification classification,
+            LocalDateTime createdAt
+    ) {
+        this.projectName = projectName;
+        this.language = language;
+        this.score = score;
+        this.classification = classification;
+        this.createdAt = createdAt;
+    }
+
+    public static EvaluationExportRow of(Evaluation evaluation) {
+        return new EvaluationExportRow(
+                evaluation.getProjectName(),
+                evaluation.getLanguage(),
+                evaluation.getScore(),
+                evaluation.getClassification(),
+                evaluation.getCreatedAt()
+        );
+    }
+
+    public String getProjectName() { return projectName; }
+    public Language getLanguage() { return language; }
+    public int getScore() { return score; }
+    public Classification getClassification() { return classification; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,52 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Campos da resposta de avaliação que podem ser pedidos em "fields=". O nome é o mesmo
+// no JSON e no atributo da entidade, então serve tanto para o SELECT quanto para o filtro do Jackson.
+public enum EvaluationField {
+
+    ID("id"),
+    PROJECT_NAME("projectName"),
+    LANGUAGE("language"),
+    HAS_TESTS("hasTests"),
+    USES_GIT("usesGit"),
+    SCORE("score"),
+    CLASSIFICATION("classification"),
+    ANALYZED_BY("analyzedBy"),
+    CREATED_AT("createdAt"),
+    LINES_OF_CODE("linesOfCode"),
+    COMPLEXITY("complexity"),
+    DESCRIPTION("description"),
+    DESCRIPTION_STATUS("descriptionStatus");
+
+    public static final Set<EvaluationField> ALL =
+            Collections.unmodifiableSet(EnumSet.allOf(EvaluationField.class));
+
+    // Colunas que montam a descrição guardada como código de template
+    public static final Set<EvaluationField> DESCRIPTION_INPUTS =
+            Collections.unmodifiableSet(EnumSet.of(
+                    PROJECT_NAME, LANGUAGE, LINES_OF_CODE, COMPLEXITY, HAS_TESTS, USES_GIT, SCORE, CLASSIFICATION
+            ));
+
+    private final String property;
+
+    EvaluationField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static EvaluationField fromProperty(String property) {
+        for (EvaluationField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import java.time.LocalDate;
+
+// Valores de uma avaliação que alimentam os agregados, capturados antes/depois de uma escrita
+public class EvaluationSnapshot {
+
+    private final Long id;
+    private final Language language;
+    private final Classification classification;
+    private final int score;
+    private final boolean hasTests;
+    private final boolean usesGit;
+    private final Integer linesOfCode;
+    private final Integer complexity;
+    private final LocalDate createdOn;
+
+    public EvaluationSnapshot(
+            Long id,
+            Language language,
+            Classification classification,
+            int score,
+            boolean hasTests,
+            boolean usesGit,
+            Integer linesOfCode,
+            Integer complexity,
+            LocalDate createdOn
+    ) {
+        this.id = id;
+        this.language = language;
+        this.classification = classification;
+        this.score = score;
+        this.hasTests = hasTests;
+        this.usesGit = usesGit;
+        this.linesOfCode = linesOfCode;
+        this.complexity = complexity;
+        this.createdOn = createdOn;
+    }
+
+    public static EvaluationSnapshot of(Evaluation evaluation) {
+        return new EvaluationSnapshot(
+                evaluation.getId(),
+                evaluation.getLanguage(),
+                evaluation.getClassification(),
+                evaluation.getScore(),
+                evaluation.isHasTests(),
+                evaluation.isUsesGit(),
+                evaluation.getLinesOfCode(),
+                evaluation.getComplexity(),
+                evaluation.getCreatedAt().toLocalDate()
+        );
+    }
+
+    public Long getId() { return id; }
+    public Language getLanguage() { return language; }
+    public Classification getClassification() { return classification; }
+    public int getScore() { return score; }
+    public boolean isHasTests() { return hasTests; }
+    public boolean isUsesGit() { return usesGit; }
+    public Integer getLinesOfCode() { return linesOfCode; }
+    public Integer getComplexity() { return complexity; }
+    public LocalDate getCreatedOn() { return createdOn; }
+}
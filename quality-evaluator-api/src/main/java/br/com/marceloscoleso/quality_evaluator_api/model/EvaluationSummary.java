@@ -0,0 +1,109 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+@Entity
+@Table(name = "evaluation_summaries")
+public class EvaluationSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long total;
+
+    private long scoreSum;
+
+    private long excellentCount;
+
+    private long goodCount;
+
+    private long regularCount;
+
+    private long badCount;
+
+    private long testsCount;
+
+    private long gitCount;
+
+    @ElementCollection
+    @CollectionTable(
+            name = "evaluation_summary_languages",
+            joinColumns = @JoinColumn(name = "user_id")
+    )
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "language")
+    @Column(name = "evaluation_count", nullable = false)
+    private Map<Language, Long> languageCounts = new EnumMap<>(Language.class);
+
+    @ElementCollection
+    @CollectionTable(
+            name = "evaluation_summary_days",
+            joinColumns = @JoinColumn(name = "user_id")
+    )
+    @MapKeyColumn(name = "evaluation_date")
+    private Map<LocalDate, DailyScore> dailyScores = new HashMap<>();
+
+    public EvaluationSummary() {
+    }
+
+    public EvaluationSummary(Long userId) {
+        this.userId = userId;
+    }
+
+    // Soma (sign = 1) ou remove (sign = -1) a contribuição de uma avaliação
+    public void apply(EvaluationSnapshot evaluation, int sign) {
+
+        total += sign;
+        scoreSum += (long) sign * evaluation.getScore();
+
+        switch (evaluation.getClassification()) {
+            case EXCELENTE -> excellentCount += sign;
+            case BOM -> goodCount += sign;
+            case REGULAR -> regularCount += sign;
+            case RUIM -> badCount += sign;
+        }
+
+        if (evaluation.isHasTests()) testsCount += sign;
+        if (evaluation.isUsesGit()) gitCount += sign;
+
+        long languageCount = languageCounts.getOrDefault(evaluation.getLanguage(), 0L) + sign;
+        if (languageCount > 0) {
+            languageCounts.put(evaluation.getLanguage(), languageCount);
+        } else {
+            languageCounts.remove(evaluation.getLanguage());
+        }
+
+        DailyScore day = dailyScores.getOrDefault(evaluation.getCreatedOn(), new DailyScore());
+        long dayCount = day.getCount() + sign;
+        if (dayCount > 0) {
+            dailyScores.put(
+                    evaluation.getCreatedOn(),
+                    new DailyScore(day.getScoreSum() + (long) sign * evaluation.getScore(), dayCount)
+            );
+        } else {
+            dailyScores.remove(evaluation.getCreatedOn());
+        }
+    }
+
+    public double getAverageScore() {
+        return total == 0 ? 0.0 : (double) scoreSum / total;
+    }
+
+    public Long getUserId() { return userId; }
+    public long getTotal() { return total; }
+    public long getScoreSum() { return scoreSum; }
+    public long getExcellentCount() { return excellentCount; }
+    public long getGoodCount() { return goodCount; }
+    public long getRegularCount() { return regularCount; }
+    public long getBadCount() { return badCount; }
+    public long getTestsCount() { return testsCount; }
+    public long getGitCount() { return gitCount; }
+    public Map<Language, Long> getLanguageCounts() { return languageCounts; }
+    public Map<LocalDate, DailyScore> getDailyScores() { return dailyScores; }
+}
@@ -0,0 +1,76 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+// Lista invertida trigrama -> nomes de projeto do usuário. Guarda nomes distintos, não avaliações:
+// um mesmo projeto avaliado muitas vezes ocupa uma entrada por trigrama.
+@Entity
+@Table(name = "project_name_trigrams")
+@IdClass(ProjectNameTrigram.Key.class)
+public class ProjectNameTrigram {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    private String trigram;
+
+    @Id
+    @Column(name = "project_name")
+    private String projectName;
+
+    public ProjectNameTrigram() {
+    }
+
+    public ProjectNameTrigram(Long userId, String trigram, String projectName) {
+        this.userId = userId;
+        this.trigram = trigram;
+        this.projectName = projectName;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTrigram() {
+        return trigram;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private String trigram;
+        private String projectName;
+
+        public Key() {
+        }
+
+        public Key(Long userId, String trigram, String projectName) {
+            this.userId = userId;
+            this.trigram = trigram;
+            this.projectName = projectName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId)
+                    && Objects.equals(trigram, key.trigram)
+                    && Objects.equals(projectName, key.projectName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, trigram, projectName);
+        }
+    }
+}
@@ -27,6 +27,10 @@ public class User {
     @Column(nullable = false)
     private Role role = Role.USER;
 
+    // Alterada só por UserRepository.incrementDataVersion (update direto, sem carregar o usuário)
+    @Column(name = "data_version", nullable = false)
+    private long dataVersion;
+
     public User() {
         this.createdAt = LocalDateTime.now();
         this.role = Role.USER;
@@ -79,4 +83,8 @@ public class User {
     public void setRole(Role role) {
         this.role = role;
     }
+
+    public long getDataVersion() {
+        return dataVersion;
+    }
 }
@@ -0,0 +1,11 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Analyst;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface AnalystRepository extends JpaRepository<Analyst, Integer> {
+
+    Optional<Analyst> findByName(String name);
+}
@@ -1,12 +1,16 @@
 package br.com.marceloscoleso.quality_evaluator_api.repository;
 
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
 import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
 import br.com.marceloscoleso.quality_evaluator_api.model.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,11 +18,30 @@ import java.util.Optional;
 @Repository
 public interface EvaluationRepository
         extends JpaRepository<Evaluation, Long>,
-                JpaSpecificationExecutor<Evaluation> {
-
-    Page<Evaluation> findAllByUser(User user, Pageable pageable);
+                JpaSpecificationExecutor<Evaluation>,
+                EvaluationRepositoryCustom {
 
     List<Evaluation> findAllByUser(User user);
 
     Optional<Evaluation> findByIdAndUser(Long id, User user);
+
+    boolean existsByUserIdAndProjectName(Long userId, String projectName);
+
+    @Query("select e from Evaluation e where e.descriptionStatus = :status order by e.id")
+    List<Evaluation> findPendingDescriptions(@Param("status") DescriptionStatus status, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Evaluation e
+            set e.description = :description, e.descriptionTemplate = :template, e.descriptionStatus = :ready
+            where e.id = :id and e.descriptionStatus = :pending
+            """)
+    int updatePendingDescription(
+            @Param("id") Long id,
+            @Param("description") String description,
+            @Param("template") Integer template,
+            @Param("ready") DescriptionStatus ready,
+            @Param("pending") DescriptionStatus pending
+    );
 }
@@ -0,0 +1,26 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationExportRow;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface EvaluationRepositoryCustom {
+
+    // Projeções: cada Tuple traz só os campos pedidos, com alias igual a EvaluationField.getProperty()
+    Page<Tuple> findPage(Specification<Evaluation> spec, Pageable pageable, Set<EvaluationField> fields);
+
+    List<Tuple> findSlice(Specification<Evaluation> spec, Sort sort, Set<EvaluationField> fields, int limit);
+
+    Stream<Tuple> streamRows(Specification<Evaluation> spec, Sort sort, Set<EvaluationField> fields, int fetchSize);
+
+    Stream<EvaluationExportRow> streamExportRows(Specification<Evaluation> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,140 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationExportRow;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class EvaluationRepositoryImpl implements EvaluationRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Projeções não entram no contexto de persistência: nada para desanexar
+    @Override
+    public Stream<EvaluationExportRow> streamExportRows(Specification<Evaluation> spec, Sort sort, int fetchSize) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EvaluationExportRow> query = cb.createQuery(EvaluationExportRow.class);
+        Root<Evaluation> root = query.from(Evaluation.class);
+
+        query.select(cb.construct(
+                EvaluationExportRow.class,
+                root.get("projectName"),
+                root.get("language"),
+                root.get("score"),
+                root.get("classification"),
+                root.get("createdAt")
+        ));
+        restrict(query, root, spec, sort);
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<Tuple> findPage(Specification<Evaluation> spec, Pageable pageable, Set<EvaluationField> fields) {
+
+        TypedQuery<Tuple> query = entityManager.createQuery(buildTupleQuery(spec, pageable.getSort(), fields));
+
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        // Sem count(*) quando a página já revela o total (primeira página incompleta, por exemplo)
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    // Consulta sem count(*): busca apenas "limit" linhas a partir do predicado
+    @Override
+    public List<Tuple> findSlice(Specification<Evaluation> spec, Sort sort, Set<EvaluationField> fields, int limit) {
+
+        return entityManager.createQuery(buildTupleQuery(spec, sort, fields))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Tuple> streamRows(
+            Specification<Evaluation> spec,
+            Sort sort,
+            Set<EvaluationField> fields,
+            int fetchSize
+    ) {
+
+        return entityManager.createQuery(buildTupleQuery(spec, sort, fields))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private long count(Specification<Evaluation> spec) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Evaluation> root = query.from(Evaluation.class);
+
+        query.select(cb.count(root));
+        restrict(query, root, spec, Sort.unsorted());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private CriteriaQuery<Tuple> buildTupleQuery(
+            Specification<Evaluation> spec,
+            Sort sort,
+            Set<EvaluationField> fields
+    ) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Evaluation> root = query.from(Evaluation.class);
+
+        List<Selection<?>> columns = new ArrayList<>();
+        for (EvaluationField field : fields) {
+            columns.add(root.get(field.getProperty()).alias(field.getProperty()));
+        }
+
+        // Descrição gerada vem como código de template, montado no mapper
+        if (fields.contains(EvaluationField.DESCRIPTION)) {
+            columns.add(root.get("descriptionTemplate").alias("descriptionTemplate"));
+        }
+
+        query.multiselect(columns);
+        restrict(query, root, spec, sort);
+
+        return query;
+    }
+
+    private void restrict(CriteriaQuery<?> query, Root<Evaluation> root, Specification<Evaluation> spec, Sort sort) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+}
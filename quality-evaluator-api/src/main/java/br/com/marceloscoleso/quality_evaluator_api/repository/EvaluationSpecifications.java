@@ -0,0 +1,116 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationFilterDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationCursor;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+public final class EvaluationSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EvaluationSpecifications() {
+    }
+
+    public static Specification<Evaluation> fromFilter(
+            User user,
+            EvaluationFilterDTO filter,
+            Collection<String> candidateNames
+    ) {
+        return Specification.where(belongsTo(user))
+                .and(createdFrom(filter.getStartDate()))
+                .and(createdUntil(filter.getEndDate()))
+                .and(projectNameContains(filter.getProjectName(), candidateNames))
+                .and(hasLanguage(filter.getLanguage()))
+                .and(scoreAtLeast(filter.getMinScore()))
+                .and(scoreAtMost(filter.getMaxScore()))
+                .and(hasClassification(filter.getClassification()));
+    }
+
+    public static Specification<Evaluation> belongsTo(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Evaluation> createdFrom(LocalDate startDate) {
+        if (startDate == null) return null;
+        return (root, query, cb) ->
+                cb.greaterThanOrEqualTo(root.get("createdAt"), startDate.atStartOfDay());
+    }
+
+    // Intervalo semiaberto: inclui o dia final inteiro sem depender de 23:59:59.999
+    public static Specification<Evaluation> createdUntil(LocalDate endDate) {
+        if (endDate == null) return null;
+        return (root, query, cb) ->
+                cb.lessThan(root.get("createdAt"), endDate.plusDays(1).atStartOfDay());
+    }
+
+    // candidateNames vem de ProjectNameIndexService.candidates: nomes do usuário que contêm todos os
+    // trigramas do trecho. Como lista literal, o IN vira buscas em (user_id, project_name) e o LIKE
+    // só confirma a ordem. null (trecho com menos de 3 letras) deixa só o LIKE.
+    public static Specification<Evaluation> projectNameContains(String projectName, Collection<String> candidateNames) {
+        if (projectName == null || projectName.isBlank()) return null;
+        String pattern = "%" + escapeLike(projectName.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> {
+            Predicate like = cb.like(cb.lower(root.get("projectName")), pattern, LIKE_ESCAPE);
+            if (candidateNames == null) {
+                return like;
+            }
+            if (candidateNames.isEmpty()) {
+                return cb.disjunction();
+            }
+            return cb.and(root.get("projectName").in(candidateNames), like);
+        };
+    }
+
+    public static Specification<Evaluation> hasLanguage(Language language) {
+        if (language == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("language"), language);
+    }
+
+    public static Specification<Evaluation> scoreAtLeast(Integer minScore) {
+        if (minScore == null) return null;
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("score"), minScore);
+    }
+
+    public static Specification<Evaluation> scoreAtMost(Integer maxScore) {
+        if (maxScore == null) return null;
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("score"), maxScore);
+    }
+
+    public static Specification<Evaluation> hasClassification(Classification classification) {
+        if (classification == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("classification"), classification);
+    }
+
+    // Predicado de seek para a ordenação (createdAt desc, id desc)
+    public static Specification<Evaluation> after(EvaluationCursor cursor) {
+        if (cursor == null) return null;
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.get("id"), cursor.getId())
+                )
+        );
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
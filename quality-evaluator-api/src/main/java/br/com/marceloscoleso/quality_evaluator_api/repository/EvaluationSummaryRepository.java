@@ -0,0 +1,24 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EvaluationSummaryRepository extends JpaRepository<EvaluationSummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from EvaluationSummary s where s.userId = :userId")
+    Optional<EvaluationSummary> findForUpdate(@Param("userId") Long userId);
+
+    @Query("""
+            select u.id from User u
+            where not exists (select s from EvaluationSummary s where s.userId = u.id)
+            """)
+    List<Long> findUserIdsWithoutSummary();
+}
@@ -0,0 +1,48 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.ProjectNameTrigram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectNameTrigramRepository
+        extends JpaRepository<ProjectNameTrigram, ProjectNameTrigram.Key> {
+
+    boolean existsByUserIdAndProjectName(Long userId, String projectName);
+
+    // Interseção das listas: nomes que aparecem em todos os trigramas pedidos
+    @Query("""
+            select t.projectName from ProjectNameTrigram t
+            where t.userId = :userId and t.trigram in :trigrams
+            group by t.projectName
+            having count(t) = :count
+            """)
+    List<String> findNamesWithAll(
+            @Param("userId") Long userId,
+            @Param("trigrams") Collection<String> trigrams,
+            @Param("count") long count
+    );
+
+    @Modifying
+    @Query("delete from ProjectNameTrigram t where t.userId = :userId and t.projectName = :projectName")
+    int deleteName(@Param("userId") Long userId, @Param("projectName") String projectName);
+
+    @Modifying
+    @Query("delete from ProjectNameTrigram t where t.userId = :userId")
+    int deleteUser(@Param("userId") Long userId);
+
+    // Pares (usuário, nome) gravados sem passar pela API, ex.: antes da tabela existir
+    @Query("""
+            select distinct e.user.id, e.projectName from Evaluation e
+            where e.projectName is not null
+              and not exists (
+                  select t from ProjectNameTrigram t
+                  where t.userId = e.user.id and t.projectName = e.projectName
+              )
+            """)
+    List<Object[]> findUnindexedNames();
+}
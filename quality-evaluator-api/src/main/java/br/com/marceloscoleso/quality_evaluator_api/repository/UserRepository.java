@@ -2,6 +2,11 @@ package br.com.marceloscoleso.quality_evaluator_api.repository;
 
 import br.com.marceloscoleso.quality_evaluator_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -9,4 +14,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    @Modifying
+    @Query("update User u set u.dataVersion = u.dataVersion + 1 where u.id = :id")
+    int incrementDataVersion(@Param("id") Long id);
+
+    @Query("select u.dataVersion from User u where u.id = :id")
+    Optional<Long> findDataVersion(@Param("id") Long id);
+
+    // Serializa por usuário a criação do que ainda não tem linha para travar (resumo, por exemplo)
+    @Query(value = "select id from users where id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
 }
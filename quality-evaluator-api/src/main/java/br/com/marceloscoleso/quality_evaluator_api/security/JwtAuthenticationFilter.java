@@ -6,9 +6,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,11 +23,13 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     public JwtAuthenticationFilter(JwtService jwtService,
-                                   UserDetailsService userDetailsService) {
+                                   UserDetailsServiceImpl userDetailsService) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
     }
@@ -45,36 +52,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwt = authHeader.substring(7);
 
         try {
-            String username = jwtService.extractUsername(jwt);
+            Claims claims = jwtService.parseClaims(jwt);
 
-            if (username != null &&
+            if (claims.getSubject() != null &&
                 SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(username);
+                // Assinatura e expiração já validadas no parse; as claims bastam
+                AuthenticatedUser principal = jwtService.toPrincipal(claims);
 
-                if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
+                if (principal == null) {
+                    principal = userDetailsService.loadPrincipal(claims.getSubject());
+                }
 
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                principal.getAuthorities()
+                        );
 
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource()
-                                    .buildDetails(request)
-                    );
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource()
+                                .buildDetails(request)
+                );
 
-                    SecurityContextHolder.getContext()
-                            .setAuthentication(authToken);
-                }
+                SecurityContextHolder.getContext()
+                        .setAuthentication(authToken);
             }
 
+        } catch (JwtException | UsernameNotFoundException e) {
+            // Token expirado, malformado, com assinatura inválida ou de usuário excluído: segue sem autenticação
+            log.debug("Token JWT rejeitado: {}", e.getMessage());
+
         } catch (Exception e) {
-    System.out.println("Erro JWT: " + e.getMessage());
-}
+            log.warn("Falha ao autenticar o token JWT", e);
+        }
 
         filterChain.doFilter(request, response);
     }
@@ -1,46 +1,152 @@
 package br.com.marceloscoleso.quality_evaluator_api.security;
 
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+
+    // Chave e parser são imutáveis e thread-safe: montados uma única vez
+    private final Key signKey;
+    private final JwtParser parser;
+
+    // Tokens já verificados, pelo hash do token; cada entrada vence junto com o "exp"
+    private final Cache<String, Claims> verified;
+    private final Timer verifyTimer;
+
+    public JwtService(
+            @Value("${jwt.secret}") String secret,
+            @Value("${app.security.jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${app.security.jwt.cache.max-ttl:1h}") Duration cacheMaxTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilExpiration(cacheMaxTtl.toNanos()))
+                .recordStats()
+                .build();
+
+        this.verifyTimer = Timer.builder("security.jwt.verify.time")
+                .description("Tempo de verificação de assinatura do JWT (cache miss)")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt.verified");
+        Gauge.builder("security.jwt.cache.hit.ratio", verified, cache -> cache.stats().hitRate())
+                .description("Proporção de requisições atendidas pelo cache de tokens verificados")
+                .register(meterRegistry);
+    }
 
-    public String generateToken(String username) {
+    public String generateToken(User user) {
         return Jwts.builder()
-                .setSubject(username)
+                .setSubject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24)) 
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Lança JwtException se a assinatura ou a expiração forem inválidas; erros não vão para o cache
+    public Claims parseClaims(String token) {
+
+        String hash = hash(token);
+        Claims claims = verified.getIfPresent(hash);
+
+        if (claims == null) {
+            claims = verifyTimer.record(() -> parser.parseClaimsJws(token).getBody());
+            verified.put(hash, claims);
+        }
+
+        return claims;
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
-    public boolean isTokenValid(String token, String username) {
-        return extractUsername(token).equals(username);
+    // Tokens emitidos antes das claims uid/role retornam null e caem na consulta ao banco
+    public AuthenticatedUser toPrincipal(Claims claims) {
+
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+
+        if (userId == null || role == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), Role.valueOf(role));
     }
 
-    private Key getSignKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(secret);
-    return Keys.hmacShaKeyFor(keyBytes);
-}
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static final class UntilExpiration implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private UntilExpiration(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+
+            long remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remaining, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
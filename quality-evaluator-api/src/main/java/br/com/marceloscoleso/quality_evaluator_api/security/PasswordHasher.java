@@ -0,0 +1,117 @@
+package br.com.marceloscoleso.quality_evaluator_api.security;
+
+import br.com.marceloscoleso.quality_evaluator_api.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// BCrypt roda num pool próprio e limitado: picos de login não ocupam as threads do Tomcat
+// que atendem /api/evaluations. Com a fila cheia a requisição falha rápido com 503.
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final Duration retryAfter;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            @Value("${app.security.login.threads:0}") int threads,
+            @Value("${app.security.login.queue-capacity:200}") int queueCapacity,
+            @Value("${app.security.login.retry-after:2s}") Duration retryAfter
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.retryAfter = retryAfter;
+
+        // Hash é CPU puro: por padrão uma thread por núcleo
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-")
+        );
+
+        Gauge.builder("security.password.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("security.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        this.matchesTimer = Timer.builder("security.password.hash.time")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("security.password.hash.time")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("security.password.rejected")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(
+                    "Muitas autenticações em andamento, tente novamente em instantes", retryAfter);
+        }
+    }
+
+    // Chamados de dentro de submit(): já estão no pool de hash
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // Custo gravado no hash ("$2a$10$...") diferente do configurado: regrava no próximo login
+    public boolean needsRehash(String encodedPassword) {
+
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
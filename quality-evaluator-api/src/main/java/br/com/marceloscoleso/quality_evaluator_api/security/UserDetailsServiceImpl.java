@@ -32,4 +32,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .roles(user.getRole().name())
                 .build();
     }
+
+    // Usado só para tokens antigos, sem as claims uid/role
+    public AuthenticatedUser loadPrincipal(String email)
+            throws UsernameNotFoundException {
+
+        return userRepository.findByEmail(email)
+                .map(AuthenticatedUser::of)
+                .orElseThrow(() ->
+                        new UsernameNotFoundException("Usuário não encontrado"));
+    }
 }
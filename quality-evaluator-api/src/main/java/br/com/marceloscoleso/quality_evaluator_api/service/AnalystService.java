@@ -0,0 +1,13 @@
+package br.com.marceloscoleso.quality_evaluator_api.service;
+
+public interface AnalystService {
+
+    // Garante o nome no dicionário, criando a entrada na primeira vez que ele aparece.
+    // Roda em transação própria: chamar antes de abrir a transação que grava as avaliações
+    Integer register(String name);
+
+    // Consultas só em memória (usadas pelo AnalystConverter); o nome precisa ter passado por register
+    Integer idOf(String name);
+
+    String nameOf(Integer id);
+}
@@ -0,0 +1,10 @@
+package br.com.marceloscoleso.quality_evaluator_api.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface DashboardEventsService {
+
+    SseEmitter subscribe();
+
+    int connections();
+}
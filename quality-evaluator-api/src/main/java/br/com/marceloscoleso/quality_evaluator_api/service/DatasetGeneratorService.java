@@ -0,0 +1,15 @@
+package br.com.marceloscoleso.quality_evaluator_api.service;
+
+public interface DatasetGeneratorService {
+
+    // Contas sintéticas: o usuário N (a partir de 1) tem o e-mail userN@dataset.local
+    String EMAIL_DOMAIN = "dataset.local";
+
+    static String email(int index) {
+        return "user" + index + "@" + EMAIL_DOMAIN;
+    }
+
+    long generate(int users, long evaluations, long seed);
+
+    long countUsers();
+}
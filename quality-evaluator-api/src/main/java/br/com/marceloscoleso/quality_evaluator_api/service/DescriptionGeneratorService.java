@@ -5,4 +5,9 @@ import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
 
 public interface DescriptionGeneratorService {
     String generate(EvaluationRequestDTO dto, int score, Classification classification);
+
+    // Código de DescriptionTemplates para gravar no lugar do texto; null quando o gerador produz texto livre
+    default Integer template(EvaluationRequestDTO dto, int score, Classification classification) {
+        return null;
+    }
 }
\ No newline at end of file
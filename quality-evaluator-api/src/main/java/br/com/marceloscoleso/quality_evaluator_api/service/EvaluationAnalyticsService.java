@@ -0,0 +1,11 @@
+package br.com.marceloscoleso.quality_evaluator_api.service;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+
+public interface EvaluationAnalyticsService {
+
+    AnalyticsResultDTO query(AnalyticsQuery query);
+
+    void evict(Long userId);
+}
@@ -1,28 +1,46 @@
 package br.com.marceloscoleso.quality_evaluator_api.service;
 
+import br.com.marceloscoleso.quality_evaluator_api.dto.CursorPageDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationBatchResultDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationFilterDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationResponseDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationStatsDTO;
 
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 public interface EvaluationService {
 
     EvaluationResponseDTO create(EvaluationRequestDTO dto);
 
-    Page<EvaluationResponseDTO> findAll(Pageable pageable);
+    EvaluationBatchResultDTO createBatch(List<EvaluationRequestDTO> items);
+
+    // fields: colunas lidas do banco e devolvidas na resposta (EvaluationField.ALL para todas)
+    Page<EvaluationResponseDTO> findAll(Pageable pageable, Set<EvaluationField> fields);
+
+    CursorPageDTO<EvaluationResponseDTO> findAll(String cursor, int size, Set<EvaluationField> fields);
 
     EvaluationResponseDTO findById(Long id);
 
     EvaluationStatsDTO getStats();
 
-    Page<EvaluationResponseDTO> filter(EvaluationFilterDTO filter, Pageable pageable);
+    Page<EvaluationResponseDTO> filter(EvaluationFilterDTO filter, Pageable pageable, Set<EvaluationField> fields);
+
+    CursorPageDTO<EvaluationResponseDTO> filter(
+            EvaluationFilterDTO filter, String cursor, int size, Set<EvaluationField> fields);
     
-    byte[] exportCsv(EvaluationFilterDTO filter);
+    Flux<EvaluationResponseDTO> stream(EvaluationFilterDTO filter, Set<EvaluationField> fields);
+
+    StreamingResponseBody exportCsv(EvaluationFilterDTO filter);
 
     EvaluationResponseDTO update(Long id, EvaluationRequestDTO dto);
 
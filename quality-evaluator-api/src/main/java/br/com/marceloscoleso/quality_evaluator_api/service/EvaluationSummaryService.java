@@ -0,0 +1,38 @@
+package br.com.marceloscoleso.quality_evaluator_api.service;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardDeltaDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationStatsDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+public interface EvaluationSummaryService {
+
+    void applyDelta(Long userId, EvaluationSnapshot before, EvaluationSnapshot after);
+
+    void applyCreated(Long userId, List<EvaluationSnapshot> created);
+
+    EvaluationStatsDTO getStats(Long userId);
+
+    DashboardSummaryDTO getDashboardSummary(Long userId);
+
+    DashboardDeltaDTO getDashboardDelta(
+            Long userId,
+            Set<Classification> classifications,
+            Set<Language> languages,
+            Set<LocalDate> days
+    );
+
+    void createEmpty(Long userId);
+
+    void delete(Long userId);
+
+    void rebuild(Long userId);
+
+    List<Long> findUsersWithoutSummary();
+}
@@ -0,0 +1,17 @@
+package br.com.marceloscoleso.quality_evaluator_api.service;
+
+import java.util.List;
+
+public interface ProjectNameIndexService {
+
+    // null quando o trecho é curto demais para usar o índice
+    List<String> candidates(Long userId, String text);
+
+    void add(Long userId, String projectName);
+
+    void remove(Long userId, String projectName);
+
+    void deleteUser(Long userId);
+
+    int indexMissing();
+}
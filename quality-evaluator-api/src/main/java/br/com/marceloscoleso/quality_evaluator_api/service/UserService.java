@@ -4,12 +4,13 @@ import br.com.marceloscoleso.quality_evaluator_api.dto.UserRequestDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.UserResponseDTO;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface UserService {
 
     UserResponseDTO register(UserRequestDTO request);
 
-    String login(String email, String password);
+    CompletableFuture<String> login(String email, String password);
 
     List<UserResponseDTO> getAllUsers();
 
@@ -0,0 +1,110 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Analyst;
+import br.com.marceloscoleso.quality_evaluator_api.repository.AnalystRepository;
+import br.com.marceloscoleso.quality_evaluator_api.service.AnalystService;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Dicionário id <-> nome inteiro em memória: carregado na subida e completado por register,
+ * que os serviços chamam antes de gravar. O AnalystConverter roda no flush e na leitura de
+ * entidades, com a conexão da transação em uso, e por isso só consulta os mapas; abrir outra
+ * transação ali pediria uma segunda conexão ao pool por requisição.
+ */
+@Service
+public class AnalystServiceImpl implements AnalystService {
+
+    private final AnalystRepository analystRepository;
+    private final TransactionTemplate ownTransaction;
+
+    // Sem limite: poucos nomes repetidos em muitas avaliações, e uma entrada descartada
+    // não poderia mais ser lida pelo conversor
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+
+    public AnalystServiceImpl(
+            AnalystRepository analystRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.analystRepository = analystRepository;
+
+        // Um nome criado fica gravado mesmo que a escrita que o pediu falhe depois, então
+        // o id guardado nunca aponta para uma linha que não existe
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Antes de o bean ficar disponível: nenhuma requisição lê avaliações com o dicionário vazio
+        analystRepository.findAll().forEach(analyst -> remember(analyst.getId(), analyst.getName()));
+    }
+
+    @Override
+    public Integer register(String name) {
+
+        if (name == null) {
+            return null;
+        }
+
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        try {
+            id = ownTransaction.execute(status -> analystRepository.findByName(name)
+                    .orElseGet(() -> analystRepository.save(new Analyst(name)))
+                    .getId());
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição criou o mesmo nome entre a busca e a inserção
+            id = ownTransaction.execute(status -> analystRepository.findByName(name)
+                    .orElseThrow(() -> e)
+                    .getId());
+        }
+
+        remember(id, name);
+        return id;
+    }
+
+    @Override
+    public Integer idOf(String name) {
+
+        if (name == null) {
+            return null;
+        }
+
+        Integer id = ids.get(name);
+        if (id == null) {
+            throw new IllegalStateException("Analista não registrado no dicionário: " + name);
+        }
+
+        return id;
+    }
+
+    @Override
+    public String nameOf(Integer id) {
+
+        if (id == null) {
+            return null;
+        }
+
+        String name = names.get(id);
+        if (name == null) {
+            throw new IllegalStateException("Analista inexistente no dicionário: " + id);
+        }
+
+        return name;
+    }
+
+    // names primeiro: quem encontra o id em ids consegue ler o nome de volta
+    private void remember(Integer id, String name) {
+        names.put(id, name);
+        ids.put(name, id);
+    }
+}
@@ -0,0 +1,396 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardDeltaDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.event.EvaluationChangedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.exception.ServiceUnavailableException;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+import br.com.marceloscoleso.quality_evaluator_api.service.DashboardEventsService;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+import br.com.marceloscoleso.quality_evaluator_api.util.ThreadFactories;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Canal SSE do dashboard, um por conexão. Ao conectar o cliente recebe o dashboard completo
+ * ("snapshot"); depois, a cada escrita confirmada, só as chaves afetadas ("delta").
+ *
+ * O envio nunca acontece na thread de quem escreveu: cada conexão tem uma fila limitada drenada
+ * por um pool próprio. Se a fila enche (cliente lento) a conexão é encerrada; o EventSource
+ * reconecta e recebe um snapshot novo.
+ *
+ * A conexão entra na lista antes de o snapshot ser lido, para não perder escritas confirmadas no
+ * meio; deltas que chegam enquanto ele é montado esperam na fila e o snapshot passa à frente deles.
+ * Deltas trazem valores absolutos das chaves afetadas e são sempre calculados depois da escrita
+ * que os gerou, então os que vêm depois do snapshot só podem deixá-lo mais atual.
+ */
+@Service
+public class DashboardEventsServiceImpl implements DashboardEventsService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardEventsServiceImpl.class);
+
+    private final EvaluationSummaryService summaryService;
+
+    private final ConcurrentMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, PendingChange> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeats;
+
+    private final Counter deltaCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+
+    public DashboardEventsServiceImpl(
+            EvaluationSummaryService summaryService,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.events.max-connections:1000}") int maxConnections,
+            @Value("${app.dashboard.events.max-connections-per-user:3}") int maxConnectionsPerUser,
+            @Value("${app.dashboard.events.queue-capacity:32}") int queueCapacity,
+            @Value("${app.dashboard.events.timeout:30m}") Duration timeout,
+            @Value("${app.dashboard.events.heartbeat:15s}") Duration heartbeat,
+            @Value("${app.dashboard.events.senders:4}") int senderCount,
+            @Value("${app.dashboard.events.retry-after:5s}") Duration retryAfter,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.summaryService = summaryService;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+
+        this.senders = new ThreadPoolExecutor(
+                senderCount, senderCount,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxConnections) * 4),
+                ThreadFactories.named("dashboard-sse-", virtualThreads)
+        );
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactories.named("dashboard-sse-heartbeat-", virtualThreads));
+        this.heartbeats.scheduleAtFixedRate(
+                this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("business.dashboard.events.connections", connections, AtomicInteger::get)
+                .register(meterRegistry);
+        this.deltaCounter = Counter.builder("business.dashboard.events.deltas")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("business.dashboard.events.dropped")
+                .description("Conexões encerradas por consumidor lento")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("business.dashboard.events.rejected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+
+        Long userId = AuthenticatedUser.current().getId();
+
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Limite de conexões do dashboard atingido", retryAfter);
+        }
+
+        SseEmitter emitter = newEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+
+        // Acima do limite por usuário a conexão mais antiga sai (ex.: aba esquecida aberta)
+        for (Subscriber evicted : register(subscriber)) {
+            evicted.close();
+        }
+
+        DashboardSummaryDTO snapshot;
+        try {
+            snapshot = summaryService.getDashboardSummary(userId);
+        } catch (RuntimeException | Error e) {
+            // A resposta vira erro: libera a vaga em vez de deixar uma conexão que nunca será encerrada
+            subscriber.abandon();
+            throw e;
+        }
+
+        subscriber.start(SseEmitter.event()
+                .name("snapshot")
+                .reconnectTime(retryAfter.toMillis())
+                .data(snapshot));
+
+        return emitter;
+    }
+
+    @Override
+    public int connections() {
+        return connections.get();
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // Só marca as chaves afetadas; o cálculo e o envio ficam no pool de envio.
+    // Escritas em sequência (ex.: lote) são agrupadas em um único delta.
+    @TransactionalEventListener
+    public void onEvaluationChanged(EvaluationChangedEvent event) {
+
+        Long userId = event.getUserId();
+
+        if (!subscribers.containsKey(userId)) {
+            return;
+        }
+
+        boolean[] created = new boolean[1];
+        pending.compute(userId, (id, change) -> {
+            if (change == null) {
+                change = new PendingChange();
+                created[0] = true;
+            }
+            change.add(event.getBefore());
+            change.add(event.getAfter());
+            return change;
+        });
+
+        if (created[0]) {
+            try {
+                senders.execute(() -> publishDelta(userId));
+            } catch (RejectedExecutionException e) {
+                pending.remove(userId);
+                subscribers.getOrDefault(userId, List.of()).forEach(Subscriber::close);
+            }
+        }
+    }
+
+    private void publishDelta(Long userId) {
+
+        PendingChange change = pending.remove(userId);
+        List<Subscriber> targets = subscribers.get(userId);
+
+        if (change == null || targets == null) {
+            return;
+        }
+
+        try {
+            DashboardDeltaDTO delta = summaryService.getDashboardDelta(
+                    userId, change.classifications, change.languages, change.days);
+
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(SseEmitter.event().name("delta").data(delta));
+            }
+
+            deltaCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao montar delta do dashboard do usuário {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber subscriber : list) {
+                subscriber.offer(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    // Listas imutáveis trocadas dentro do compute: leitura sem lock no envio
+    private List<Subscriber> register(Subscriber subscriber) {
+
+        List<Subscriber> evicted = new ArrayList<>();
+
+        subscribers.compute(subscriber.userId, (id, current) -> {
+            List<Subscriber> updated = new ArrayList<>(current == null ? List.of() : current);
+            updated.add(subscriber);
+            while (updated.size() > maxConnectionsPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            return List.copyOf(updated);
+        });
+
+        return evicted;
+    }
+
+    private void unregister(Subscriber subscriber) {
+
+        if (!subscriber.registered.compareAndSet(true, false)) {
+            return;
+        }
+
+        connections.decrementAndGet();
+
+        subscribers.computeIfPresent(subscriber.userId, (id, current) -> {
+            List<Subscriber> updated = new ArrayList<>(current);
+            updated.remove(subscriber);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        heartbeats.shutdownNow();
+        for (List<Subscriber> list : subscribers.values()) {
+            list.forEach(Subscriber::close);
+        }
+        senders.shutdown();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static final class PendingChange {
+
+        private final Set<Classification> classifications = EnumSet.noneOf(Classification.class);
+        private final Set<Language> languages = EnumSet.noneOf(Language.class);
+        private final Set<LocalDate> days = new HashSet<>();
+
+        private void add(EvaluationSnapshot snapshot) {
+            if (snapshot == null) {
+                return;
+            }
+            classifications.add(snapshot.getClassification());
+            languages.add(snapshot.getLanguage());
+            days.add(snapshot.getCreatedOn());
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingDeque<SseEventBuilder> queue = new LinkedBlockingDeque<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+        private volatile boolean started;
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEventBuilder event) {
+
+            if (closed) {
+                return;
+            }
+
+            if (!queue.offer(event)) {
+                droppedCounter.increment();
+                close();
+                return;
+            }
+
+            // Até o snapshot entrar, os eventos só se acumulam
+            if (started) {
+                schedule();
+            }
+        }
+
+        private void start(SseEventBuilder snapshot) {
+
+            if (closed) {
+                return;
+            }
+
+            if (!queue.offerFirst(snapshot)) {
+                droppedCounter.increment();
+                close();
+                return;
+            }
+
+            started = true;
+            schedule();
+        }
+
+        private void abandon() {
+            closed = true;
+            queue.clear();
+            unregister(this);
+        }
+
+        // Marca como encerrada; quem estiver drenando a fila completa o emitter ao terminar o envio atual
+        private void close() {
+            closed = true;
+            queue.clear();
+            unregister(this);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    closed = true;
+                    unregister(this);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+
+                if (closed) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectou
+                closed = true;
+                unregister(this);
+            } finally {
+                draining.set(false);
+            }
+
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DailyScore;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSummary;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.service.AnalystService;
+import br.com.marceloscoleso.quality_evaluator_api.service.DatasetGeneratorService;
+import br.com.marceloscoleso.quality_evaluator_api.util.ProjectNameTrigrams;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/*
+ * Massa sintética em escala de produção, gravada direto por JDBC em lotes (sem JPA).
+ *
+ * Distribuições: avaliações por usuário seguem Zipf (poucos usuários concentram muito
+ * histórico); cada usuário tem uma linguagem principal e um conjunto de projetos; datas
+ * mais densas perto de hoje e em horário comercial. Score e classificação saem das mesmas
+ * regras da API, e os resumos por usuário e os trigramas da busca por nome são gravados
+ * junto, já consistentes.
+ *
+ * Os ids são atribuídos aqui e a sequence/identity são reiniciadas no fim (sintaxe do H2).
+ */
+@Service
+public class DatasetGeneratorServiceImpl implements DatasetGeneratorService {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGeneratorServiceImpl.class);
+
+    private static final String INSERT_USER = """
+            insert into users (id, name, email, password, created_at, role)
+            values (?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_EVALUATION = """
+            insert into evaluations (id, project_name, language, score, classification, analyst_id,
+                                     has_tests, uses_git, lines_of_code, complexity, description,
+                                     description_template, description_status, created_at, user_id)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_SUMMARY = """
+            insert into evaluation_summaries (user_id, total, score_sum, excellent_count, good_count,
+                                              regular_count, bad_count, tests_count, git_count)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String INSERT_SUMMARY_LANGUAGE = """
+            insert into evaluation_summary_languages (user_id, language, evaluation_count)
+            values (?, ?, ?)""";
+
+    private static final String INSERT_SUMMARY_DAY = """
+            insert into evaluation_summary_days (user_id, evaluation_date, score_sum, evaluation_count)
+            values (?, ?, ?, ?)""";
+
+    private static final String INSERT_TRIGRAM = """
+            insert into project_name_trigrams (user_id, trigram, project_name)
+            values (?, ?, ?)""";
+
+    // Peso aproximado de cada linguagem no conjunto de avaliações
+    private static final Language[] LANGUAGES = {
+            Language.JAVA, Language.JAVA, Language.JAVA, Language.JAVA,
+            Language.TYPESCRIPT, Language.TYPESCRIPT, Language.TYPESCRIPT,
+            Language.PYTHON, Language.PYTHON, Language.PYTHON,
+            Language.JAVASCRIPT, Language.JAVASCRIPT, Language.CSHARP, Language.CSHARP,
+            Language.GO, Language.KOTLIN, Language.PHP, Language.RUBY, Language.SWIFT,
+            Language.C, Language.CPP, Language.RUST, Language.DART, Language.OTHER
+    };
+
+    private static final String[] PROJECT_PREFIXES = {
+            "quality", "billing", "payments", "auth", "catalog", "inventory", "search", "notification",
+            "gateway", "reporting", "checkout", "analytics", "onboarding", "pricing", "shipping", "ledger"
+    };
+
+    private static final String[] PROJECT_SUFFIXES = {
+            "api", "service", "worker", "frontend", "sdk", "cli", "evaluator", "core", "batch", "admin"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Diego", "Elisa", "Felipe", "Gabriela", "Henrique", "Isabela",
+            "João", "Larissa", "Marcelo", "Natália", "Otávio", "Paula", "Rafael", "Sofia", "Thiago"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Silva", "Souza", "Oliveira", "Santos", "Pereira", "Lima", "Costa", "Ferreira", "Almeida",
+            "Ribeiro", "Carvalho", "Gomes", "Martins", "Rocha", "Scoleso"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final PasswordEncoder passwordEncoder;
+    private final DescriptionGeneratorServiceImpl descriptionGenerator;
+    private final AnalystService analystService;
+
+    private final String password;
+    private final double skew;
+    private final int days;
+    private final boolean descriptions;
+    private final int batchSize;
+
+    public DatasetGeneratorServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            AnalystService analystService,
+            @Value("${app.seed.password:senha123}") String password,
+            @Value("${app.seed.skew:1.0}") double skew,
+            @Value("${app.seed.days:365}") int days,
+            @Value("${app.seed.descriptions:true}") boolean descriptions,
+            @Value("${app.seed.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        // Sorteio com semente derivada da entrada: a mesma massa gera as mesmas descrições
+        this.descriptionGenerator = new DescriptionGeneratorServiceImpl(true);
+        this.analystService = analystService;
+        this.password = password;
+        this.skew = skew;
+        this.days = Math.max(1, days);
+        this.descriptions = descriptions;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public long countUsers() {
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from users where email like ?", Long.class, "%@" + EMAIL_DOMAIN);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public long generate(int users, long evaluations, long seed) {
+
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        long firstUserId = nextId("users");
+        long nextEvaluationId = nextId("evaluations");
+        long[] perUser = distribute(users, evaluations, random);
+
+        insertUsers(firstUserId, users, passwordEncoder.encode(password), random);
+
+        List<Object[]> evaluationRows = new ArrayList<>(batchSize);
+        List<EvaluationSummary> summaries = new ArrayList<>();
+        List<Object[]> trigramRows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int index = 0; index < users; index++) {
+
+            long userId = firstUserId + index;
+            UserProfile profile = new UserProfile(index + 1, random);
+            EvaluationSummary summary = new EvaluationSummary(userId);
+            Set<String> projectNames = new HashSet<>();
+
+            for (long i = 0; i < perUser[index]; i++) {
+
+                EvaluationRequestDTO dto = profile.request(random);
+                int score = EvaluationScoring.calculateScore(dto);
+                Classification classification = EvaluationScoring.classify(score);
+                LocalDateTime createdAt = createdAt(now, random);
+                long id = nextEvaluationId++;
+
+                evaluationRows.add(new Object[]{
+                        id,
+                        dto.getProjectName(),
+                        dto.getLanguage().name(),
+                        score,
+                        classification.getCode(),
+                        analystService.register(dto.getAnalyzedBy()),
+                        dto.getHasTests(),
+                        dto.getUsesGit(),
+                        dto.getLinesOfCode(),
+                        dto.getComplexity(),
+                        null,
+                        descriptions ? descriptionGenerator.template(dto, score, classification) : null,
+                        DescriptionStatus.READY.name(),
+                        Timestamp.valueOf(createdAt),
+                        userId
+                });
+
+                projectNames.add(dto.getProjectName());
+                summary.apply(new EvaluationSnapshot(
+                        id, dto.getLanguage(), classification, score,
+                        dto.getHasTests(), dto.getUsesGit(), dto.getLinesOfCode(), dto.getComplexity(),
+                        createdAt.toLocalDate()), 1);
+
+                if (evaluationRows.size() >= batchSize) {
+                    flush(INSERT_EVALUATION, evaluationRows);
+                }
+            }
+
+            summaries.add(summary);
+            for (String projectName : projectNames) {
+                for (String trigram : ProjectNameTrigrams.of(projectName)) {
+                    trigramRows.add(new Object[]{userId, trigram, projectName});
+                }
+            }
+
+            if (summaries.size() >= 100) {
+                flush(INSERT_EVALUATION, evaluationRows);
+                insertSummaries(summaries);
+                flush(INSERT_TRIGRAM, trigramRows);
+            }
+        }
+
+        flush(INSERT_EVALUATION, evaluationRows);
+        insertSummaries(summaries);
+        flush(INSERT_TRIGRAM, trigramRows);
+
+        // Próximos ids gerados pela aplicação continuam depois da massa (pooled-lo: o valor é o primeiro id do bloco)
+        jdbcTemplate.execute("alter sequence evaluation_seq restart with " + nextEvaluationId);
+        jdbcTemplate.execute("alter table users alter column id restart with " + (firstUserId + users));
+
+        log.info("Massa sintética gerada: {} usuários e {} avaliações em {} ms",
+                users, evaluations, (System.nanoTime() - started) / 1_000_000);
+
+        return evaluations;
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return (max == null ? 0 : max) + 1;
+    }
+
+    // Zipf: o usuário i recebe peso 1 / i^skew; o resto do arredondamento vai para os primeiros
+    private long[] distribute(int users, long evaluations, SplittableRandom random) {
+
+        double[] weights = new double[users];
+        double total = 0;
+
+        for (int i = 0; i < users; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, skew);
+            total += weights[i];
+        }
+
+        long[] counts = new long[users];
+        long assigned = 0;
+
+        for (int i = 0; i < users; i++) {
+            counts[i] = (long) Math.floor(evaluations * weights[i] / total);
+            assigned += counts[i];
+        }
+
+        for (int i = 0; assigned < evaluations; i = (i + 1) % users) {
+            counts[i]++;
+            assigned++;
+        }
+
+        return counts;
+    }
+
+    private void insertUsers(long firstUserId, int users, String passwordHash, SplittableRandom random) {
+
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        LocalDateTime base = LocalDateTime.now().minusDays(days);
+
+        for (int index = 0; index < users; index++) {
+            rows.add(new Object[]{
+                    firstUserId + index,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    DatasetGeneratorService.email(index + 1),
+                    passwordHash,
+                    Timestamp.valueOf(base.minusDays(random.nextInt(days))),
+                    Role.USER.name()
+            });
+
+            if (rows.size() >= batchSize) {
+                flush(INSERT_USER, rows);
+            }
+        }
+
+        flush(INSERT_USER, rows);
+    }
+
+    private void insertSummaries(List<EvaluationSummary> summaries) {
+
+        List<Object[]> summaryRows = new ArrayList<>(summaries.size());
+        List<Object[]> languageRows = new ArrayList<>();
+        List<Object[]> dayRows = new ArrayList<>();
+
+        for (EvaluationSummary summary : summaries) {
+
+            summaryRows.add(new Object[]{
+                    summary.getUserId(), summary.getTotal(), summary.getScoreSum(),
+                    summary.getExcellentCount(), summary.getGoodCount(), summary.getRegularCount(),
+                    summary.getBadCount(), summary.getTestsCount(), summary.getGitCount()
+            });
+
+            for (Map.Entry<Language, Long> entry : summary.getLanguageCounts().entrySet()) {
+                languageRows.add(new Object[]{summary.getUserId(), entry.getKey().name(), entry.getValue()});
+            }
+
+            for (Map.Entry<LocalDate, DailyScore> entry : summary.getDailyScores().entrySet()) {
+                dayRows.add(new Object[]{
+                        summary.getUserId(), entry.getKey(),
+                        entry.getValue().getScoreSum(), entry.getValue().getCount()
+                });
+            }
+        }
+
+        flush(INSERT_SUMMARY, summaryRows);
+        flush(INSERT_SUMMARY_LANGUAGE, languageRows);
+        flush(INSERT_SUMMARY_DAY, dayRows);
+        summaries.clear();
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        transaction.executeWithoutResult(status -> {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+            }
+        });
+        rows.clear();
+    }
+
+    // Mais avaliações nos dias recentes e em horário comercial
+    private LocalDateTime createdAt(LocalDateTime now, SplittableRandom random) {
+
+        double r = random.nextDouble();
+        LocalDate day = now.toLocalDate().minusDays((long) (r * r * days));
+
+        int hour = random.nextInt(10) < 8 ? 8 + random.nextInt(11) : random.nextInt(24);
+        LocalDateTime createdAt = day.atTime(LocalTime.of(hour, random.nextInt(60), random.nextInt(60)));
+
+        return createdAt.isAfter(now) ? now : createdAt;
+    }
+
+    // Hábitos de um usuário: linguagem principal, projetos recorrentes e maturidade do time
+    private static final class UserProfile {
+
+        private final String analyst;
+        private final Language mainLanguage;
+        private final String[] projects;
+        private final int testsPercent;
+
+        private UserProfile(int index, SplittableRandom random) {
+            this.analyst = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            this.mainLanguage = LANGUAGES[random.nextInt(LANGUAGES.length)];
+            this.projects = new String[3 + random.nextInt(10)];
+            for (int i = 0; i < projects.length; i++) {
+                projects[i] = PROJECT_PREFIXES[random.nextInt(PROJECT_PREFIXES.length)] + "-"
+                        + PROJECT_SUFFIXES[random.nextInt(PROJECT_SUFFIXES.length)]
+                        + (random.nextInt(5) == 0 ? "-" + index : "");
+            }
+            this.testsPercent = 30 + random.nextInt(65);
+        }
+
+        private EvaluationRequestDTO request(SplittableRandom random) {
+
+            double r = random.nextDouble();
+
+            EvaluationRequestDTO dto = new EvaluationRequestDTO();
+            // Projetos do início da lista são avaliados com mais frequência
+            dto.setProjectName(projects[(int) (r * r * projects.length)]);
+            dto.setLanguage(random.nextInt(10) < 6 ? mainLanguage : LANGUAGES[random.nextInt(LANGUAGES.length)]);
+            dto.setLinesOfCode((int) Math.min(200_000, Math.exp(4 + random.nextDouble() * 6)));
+            dto.setComplexity(1 + Math.min(4, (int) Math.abs(random.nextDouble() + random.nextDouble() * 3)));
+            dto.setHasTests(random.nextInt(100) < testsPercent);
+            dto.setUsesGit(random.nextInt(100) < 92);
+            dto.setAnalyzedBy(analyst);
+            return dto;
+        }
+    }
+}
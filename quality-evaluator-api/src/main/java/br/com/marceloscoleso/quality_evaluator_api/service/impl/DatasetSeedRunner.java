@@ -0,0 +1,71 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.service.DatasetGeneratorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/*
+ * Gera a massa sintética na inicialização quando app.seed.users é informado:
+ *
+ *   java -jar app.jar --app.seed.users=2000 --app.seed.evaluations=2000000
+ *
+ * Com banco em arquivo e app.seed.exit=true a aplicação encerra depois da carga,
+ * e as próximas execuções reaproveitam a massa. Não gera de novo se ela já existir.
+ */
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "app.seed.users")
+public class DatasetSeedRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeedRunner.class);
+
+    private final DatasetGeneratorService generator;
+    private final ConfigurableApplicationContext context;
+
+    private final int users;
+    private final long evaluations;
+    private final long seed;
+    private final boolean exit;
+
+    public DatasetSeedRunner(
+            DatasetGeneratorService generator,
+            ConfigurableApplicationContext context,
+            @Value("${app.seed.users}") int users,
+            @Value("${app.seed.evaluations:0}") long evaluations,
+            @Value("${app.seed.random-seed:42}") long seed,
+            @Value("${app.seed.exit:false}") boolean exit
+    ) {
+        this.generator = generator;
+        this.context = context;
+        this.users = users;
+        // Padrão: média de 500 avaliações por usuário
+        this.evaluations = evaluations > 0 ? evaluations : users * 500L;
+        this.seed = seed;
+        this.exit = exit;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        long existing = generator.countUsers();
+
+        if (existing > 0) {
+            log.info("Massa sintética já existe ({} usuários); geração ignorada", existing);
+        } else if (users > 0) {
+            generator.generate(users, evaluations, seed);
+        }
+
+        if (exit) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
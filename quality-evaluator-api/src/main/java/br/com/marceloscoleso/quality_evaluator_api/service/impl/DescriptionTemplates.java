@@ -0,0 +1,293 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.util.TextTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+ * Trechos das descrições geradas. Uma descrição gerada é guardada só como código: a versão dos
+ * templates e o índice do trecho escolhido em cada posição, 4 bits cada. Os parâmetros (nome,
+ * linguagem, linhas, complexidade, testes, Git, nota e classificação) já são colunas da própria
+ * avaliação, então o texto é montado de novo na leitura.
+ *
+ * Mudar ou reordenar trechos exige uma nova VERSION, mantendo os da versão anterior para os
+ * códigos já gravados. A migração V5 tem a própria cópia da versão 1 e não depende desta classe.
+ */
+public final class DescriptionTemplates {
+
+    public static final int VERSION = 1;
+
+    // Posições dos trechos escolhidos, na ordem em que aparecem no texto
+    public static final int INTRO = 0;
+    public static final int SIZE = 1;
+    public static final int TESTS = 2;
+    public static final int GIT = 3;
+    public static final int QUALITY = 4;
+    public static final int VERDICT = 5;
+    public static final int FRAGMENTS = 6;
+
+    private static final int BITS = 4;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final TextTemplate[] INTROS = compile(
+            "O projeto \"%s\" desenvolvido em %s demonstra características técnicas interessantes. ",
+            "A aplicação \"%s\", construída com %s, apresenta uma proposta estrutural relevante. ",
+            "O sistema \"%s\" implementado utilizando %s revela decisões arquiteturais específicas. ",
+            "Analisando o projeto \"%s\" em %s, observam-se aspectos técnicos distintos. "
+    );
+
+    private static final TextTemplate[] SIZES = compile(
+            "Com %d linhas de código e complexidade %d, ",
+            "Totalizando %d linhas e nível de complexidade %d, ",
+            "Estruturado em %d linhas com complexidade %d, "
+    );
+
+    private static final TextTemplate[] WITH_TESTS = compile(
+            "conta com cobertura de testes automatizados, ",
+            "inclui validação por meio de testes, ",
+            "possui suporte a testes automatizados, "
+    );
+
+    private static final TextTemplate[] WITHOUT_TESTS = compile(
+            "não apresenta evidências de testes automatizados, ",
+            "carece de cobertura de testes, ",
+            "não demonstra validação automatizada, "
+    );
+
+    private static final TextTemplate[] WITH_GIT = compile(
+            "além de utilizar controle de versão com Git. ",
+            "mantendo versionamento estruturado com Git. ",
+            "fazendo uso adequado de controle de versão. "
+    );
+
+    private static final TextTemplate[] WITHOUT_GIT = compile(
+            "e não evidencia práticas formais de versionamento. ",
+            "sem indicar uso estruturado de versionamento. ",
+            "o que pode impactar rastreabilidade e colaboração. "
+    );
+
+    private static final Map<Classification, TextTemplate[]> QUALITY_ANALYSIS = new EnumMap<>(Map.of(
+
+            Classification.EXCELENTE, compile(
+                    "O conjunto de decisões técnicas indica alta maturidade arquitetural e alinhamento com boas práticas modernas. ",
+                    "A estrutura demonstra solidez, coesão e preocupação clara com qualidade e manutenção futura. ",
+                    "A implementação revela excelência técnica e forte aderência a princípios de engenharia de software. "
+            ),
+
+            Classification.BOM, compile(
+                    "A solução apresenta consistência estrutural e bom domínio técnico. ",
+                    "Observa-se uma base sólida, ainda que existam oportunidades pontuais de refinamento. ",
+                    "O projeto demonstra organização e qualidade satisfatória na maior parte dos aspectos avaliados. "
+            ),
+
+            Classification.REGULAR, compile(
+                    "Embora funcional, a implementação poderia evoluir em termos de organização e robustez. ",
+                    "Existem pontos estruturais que merecem revisão para elevar o padrão técnico. ",
+                    "A base é aceitável, porém há espaço considerável para melhorias arquiteturais. "
+            ),
+
+            Classification.RUIM, compile(
+                    "A estrutura atual evidencia fragilidades que comprometem a qualidade geral da solução. ",
+                    "São perceptíveis lacunas importantes em organização, padronização e boas práticas. ",
+                    "O projeto necessita de revisões estruturais significativas para atingir um nível técnico adequado. "
+            )
+    ));
+
+    private static final Map<Classification, String> INTENSITY = new EnumMap<>(Map.of(
+            Classification.EXCELENTE, "desempenho excepcional",
+            Classification.BOM, "bom desempenho técnico",
+            Classification.REGULAR, "desempenho mediano",
+            Classification.RUIM, "baixo desempenho técnico"
+    ));
+
+    // Sem espaço no fim: o texto montado dispensa trim()
+    private static final TextTemplate[] VERDICTS = compile(
+            "A pontuação final foi %d/100, refletindo um %s.",
+            "Com score %d/100, o projeto demonstra %s.",
+            "A avaliação consolidada atingiu %d/100, caracterizando um %s."
+    );
+
+    // Maior soma possível dos trechos fixos + folga para nome do projeto e números
+    private static final int BASE_CAPACITY = longest(INTROS) + longest(SIZES)
+            + Math.max(longest(WITH_TESTS), longest(WITHOUT_TESTS))
+            + Math.max(longest(WITH_GIT), longest(WITHOUT_GIT))
+            + QUALITY_ANALYSIS.values().stream().mapToInt(DescriptionTemplates::longest).max().orElse(0)
+            + longest(VERDICTS)
+            + INTENSITY.values().stream().mapToInt(String::length).max().orElse(0)
+            + 48;
+
+    private DescriptionTemplates() {
+    }
+
+    public static int options(int position, boolean hasTests, boolean usesGit, Classification classification) {
+        return switch (position) {
+            case INTRO -> INTROS.length;
+            case SIZE -> SIZES.length;
+            case TESTS -> testsOptions(hasTests).length;
+            case GIT -> gitOptions(usesGit).length;
+            case QUALITY -> QUALITY_ANALYSIS.get(classification).length;
+            case VERDICT -> VERDICTS.length;
+            default -> throw new IllegalArgumentException("Posição de trecho inválida: " + position);
+        };
+    }
+
+    public static int encode(int[] fragments) {
+
+        int code = VERSION;
+        for (int position = 0; position < FRAGMENTS; position++) {
+            code = (code << BITS) | fragments[position];
+        }
+        return code;
+    }
+
+    public static int[] decode(int code) {
+
+        int version = code >>> (BITS * FRAGMENTS);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Versão de template de descrição desconhecida: " + version);
+        }
+
+        int[] fragments = new int[FRAGMENTS];
+        for (int position = FRAGMENTS - 1; position >= 0; position--) {
+            fragments[position] = code & MASK;
+            code >>>= BITS;
+        }
+        return fragments;
+    }
+
+    public static String render(
+            int code,
+            String projectName,
+            Language language,
+            Integer linesOfCode,
+            Integer complexity,
+            boolean hasTests,
+            boolean usesGit,
+            int score,
+            Classification classification
+    ) {
+        return render(decode(code), projectName, language, linesOfCode, complexity,
+                hasTests, usesGit, score, classification);
+    }
+
+    public static String render(
+            int[] fragments,
+            String projectName,
+            Language language,
+            Integer linesOfCode,
+            Integer complexity,
+            boolean hasTests,
+            boolean usesGit,
+            int score,
+            Classification classification
+    ) {
+        StringBuilder description = new StringBuilder(
+                BASE_CAPACITY + (projectName == null ? 0 : projectName.length())
+        );
+
+        for (int position = 0; position < FRAGMENTS; position++) {
+            appendFragment(description, position, fragments, projectName, language, linesOfCode,
+                    complexity, hasTests, usesGit, score, classification);
+        }
+
+        return description.toString();
+    }
+
+    // Código cujo texto é exatamente "text", ou null se o texto não saiu destes templates
+    // (escrito pelo usuário ou por outro gerador). Cada posição tem no máximo 4 opções, todas
+    // com inícios distintos, então basta comparar trecho a trecho.
+    public static Integer match(
+            String text,
+            String projectName,
+            Language language,
+            Integer linesOfCode,
+            Integer complexity,
+            boolean hasTests,
+            boolean usesGit,
+            int score,
+            Classification classification
+    ) {
+        if (text == null || classification == null) {
+            return null;
+        }
+
+        int[] fragments = new int[FRAGMENTS];
+        StringBuilder prefix = new StringBuilder(text.length());
+
+        for (int position = 0; position < FRAGMENTS; position++) {
+
+            int found = -1;
+            int options = options(position, hasTests, usesGit, classification);
+
+            for (int option = 0; option < options && found < 0; option++) {
+                int length = prefix.length();
+                fragments[position] = option;
+                appendFragment(prefix, position, fragments, projectName, language, linesOfCode,
+                        complexity, hasTests, usesGit, score, classification);
+
+                if (text.startsWith(prefix.toString())) {
+                    found = option;
+                } else {
+                    prefix.setLength(length);
+                }
+            }
+
+            if (found < 0) {
+                return null;
+            }
+        }
+
+        return prefix.length() == text.length() ? encode(fragments) : null;
+    }
+
+    private static void appendFragment(
+            StringBuilder out,
+            int position,
+            int[] fragments,
+            String projectName,
+            Language language,
+            Integer linesOfCode,
+            Integer complexity,
+            boolean hasTests,
+            boolean usesGit,
+            int score,
+            Classification classification
+    ) {
+        switch (position) {
+            case INTRO -> INTROS[fragments[INTRO]].appendTo(out, projectName, language);
+            case SIZE -> SIZES[fragments[SIZE]].appendTo(out, linesOfCode, complexity);
+            case TESTS -> testsOptions(hasTests)[fragments[TESTS]].appendTo(out);
+            case GIT -> gitOptions(usesGit)[fragments[GIT]].appendTo(out);
+            case QUALITY -> QUALITY_ANALYSIS.get(classification)[fragments[QUALITY]].appendTo(out);
+            case VERDICT -> VERDICTS[fragments[VERDICT]].appendTo(out, score, INTENSITY.get(classification));
+            default -> throw new IllegalArgumentException("Posição de trecho inválida: " + position);
+        }
+    }
+
+    private static TextTemplate[] testsOptions(boolean hasTests) {
+        return hasTests ? WITH_TESTS : WITHOUT_TESTS;
+    }
+
+    private static TextTemplate[] gitOptions(boolean usesGit) {
+        return usesGit ? WITH_GIT : WITHOUT_GIT;
+    }
+
+    private static TextTemplate[] compile(String... sources) {
+        TextTemplate[] templates = new TextTemplate[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            templates[i] = TextTemplate.compile(sources[i]);
+        }
+        return templates;
+    }
+
+    private static int longest(TextTemplate[] templates) {
+        int longest = 0;
+        for (TextTemplate template : templates) {
+            longest = Math.max(longest, template.literalLength());
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,321 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.UserCacheKeys;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.event.DescriptionRequestedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.service.DescriptionGeneratorService;
+import br.com.marceloscoleso.quality_evaluator_api.util.CircuitBreaker;
+import br.com.marceloscoleso.quality_evaluator_api.util.ThreadFactories;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Preenche descrições pendentes fora da requisição. O gerador principal roda com timeout,
+// novas tentativas e circuit breaker; o gerador por template é o fallback.
+// Enquanto só existir o bean do template, primary e fallback são o mesmo objeto e o caminho do
+// gerador principal (timeout, tentativas, circuit breaker) fica desligado: tudo sai do template.
+@Component
+public class DescriptionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(DescriptionWorker.class);
+
+    private final DescriptionGeneratorService primary;
+    private final DescriptionGeneratorService fallback;
+    private final EvaluationRepository evaluationRepository;
+    private final UserCacheKeys userCacheKeys;
+    private final TransactionTemplate storeTransaction;
+    private final CircuitBreaker circuitBreaker;
+
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor calls;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final Timer generationTimer;
+    private final Counter primaryCounter;
+    private final Counter fallbackCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public DescriptionWorker(
+            DescriptionGeneratorService primary,
+            DescriptionGeneratorServiceImpl fallback,
+            EvaluationRepository evaluationRepository,
+            UserCacheKeys userCacheKeys,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.description.workers:4}") int workerCount,
+            @Value("${app.description.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.description.timeout:5s}") Duration timeout,
+            @Value("${app.description.max-attempts:3}") int maxAttempts,
+            @Value("${app.description.retry-backoff:200ms}") Duration retryBackoff,
+            @Value("${app.description.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.description.circuit-breaker.open-for:30s}") Duration openFor,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this(primary, fallback, evaluationRepository, userCacheKeys, transactionManager, meterRegistry,
+                workerCount, queueCapacity, timeout, maxAttempts, retryBackoff,
+                new CircuitBreaker(failureThreshold, openFor), virtualThreads);
+    }
+
+    DescriptionWorker(
+            DescriptionGeneratorService primary,
+            DescriptionGeneratorService fallback,
+            EvaluationRepository evaluationRepository,
+            UserCacheKeys userCacheKeys,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            int workerCount,
+            int queueCapacity,
+            Duration timeout,
+            int maxAttempts,
+            Duration retryBackoff,
+            CircuitBreaker circuitBreaker,
+            boolean virtualThreads
+    ) {
+        this.primary = primary;
+        this.fallback = fallback;
+        this.evaluationRepository = evaluationRepository;
+        this.userCacheKeys = userCacheKeys;
+        this.circuitBreaker = circuitBreaker;
+
+        // Transação própria: submit também roda no AFTER_COMMIT da requisição, onde a transação
+        // ainda vinculada à thread já terminou e um REQUIRED nunca seria confirmado
+        this.storeTransaction = new TransactionTemplate(transactionManager);
+        this.storeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.timeout = timeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named("description-worker-", virtualThreads)
+        );
+
+        // Chamadas ao gerador principal em threads próprias para que o timeout possa abandoná-las
+        this.calls = new ThreadPoolExecutor(
+                0, workerCount * 2,
+                60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                ThreadFactories.named("description-call-", virtualThreads)
+        );
+
+        Gauge.builder("business.descriptions.queue.depth", workers, e -> e.getQueue().size())
+                .register(meterRegistry);
+
+        this.generationTimer = Timer.builder("business.descriptions.generation.time")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("business.descriptions.generated")
+                .tag("source", "fallback")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("business.descriptions.failures")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("business.descriptions.rejected")
+                .register(meterRegistry);
+
+        // Circuito e contador do principal só existem quando há um gerador principal
+        if (primary != fallback) {
+            Gauge.builder("business.descriptions.circuit.open", circuitBreaker,
+                            cb -> cb.state() == CircuitBreaker.State.OPEN ? 1 : 0)
+                    .register(meterRegistry);
+            this.primaryCounter = Counter.builder("business.descriptions.generated")
+                    .tag("source", "primary")
+                    .register(meterRegistry);
+        } else {
+            this.primaryCounter = null;
+            log.info("Nenhum gerador principal de descrições configurado: o template atende todas as descrições");
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDescriptionRequested(DescriptionRequestedEvent event) {
+        submit(event);
+    }
+
+    public void submit(DescriptionRequestedEvent task) {
+        try {
+            workers.execute(() -> process(task));
+        } catch (RejectedExecutionException e) {
+            // Fila cheia: o template é rápido o bastante para rodar na thread atual
+            rejectedCounter.increment();
+            storeFallback(task);
+        }
+    }
+
+    // Reenfileira descrições que ficaram pendentes quando a aplicação parou
+    @EventListener(ApplicationReadyEvent.class)
+    public void resubmitPending() {
+
+        int resubmitted = 0;
+
+        for (Evaluation evaluation : evaluationRepository.findPendingDescriptions(
+                DescriptionStatus.PENDING,
+                PageRequest.of(0, Math.max(1, workers.getQueue().remainingCapacity())))) {
+            submit(new DescriptionRequestedEvent(
+                    evaluation.getId(),
+                    evaluation.getUser().getId(),
+                    toRequest(evaluation),
+                    evaluation.getScore(),
+                    evaluation.getClassification()
+            ));
+            resubmitted++;
+        }
+
+        if (resubmitted > 0) {
+            log.info("{} descrições pendentes reenfileiradas", resubmitted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+        calls.shutdownNow();
+    }
+
+    public int queueDepth() {
+        return workers.getQueue().size();
+    }
+
+    private void process(DescriptionRequestedEvent task) {
+
+        String description = generationTimer.record(() -> generate(task));
+
+        if (description != null) {
+            store(task, description, null);
+        } else {
+            storeFallback(task);
+        }
+    }
+
+    // Texto do gerador principal, ou null para cair no template
+    private String generate(DescriptionRequestedEvent task) {
+
+        if (primary != fallback && circuitBreaker.allowRequest()) {
+            String description = tryPrimary(task);
+            if (description != null) {
+                primaryCounter.increment();
+                return description;
+            }
+        }
+
+        return null;
+    }
+
+    // O template grava só o código (DescriptionTemplates); um fallback de texto livre grava o texto
+    private void storeFallback(DescriptionRequestedEvent task) {
+
+        Integer template = fallback.template(task.getRequest(), task.getScore(), task.getClassification());
+
+        store(task,
+                template == null
+                        ? fallback.generate(task.getRequest(), task.getScore(), task.getClassification())
+                        : null,
+                template);
+        fallbackCounter.increment();
+    }
+
+    private String tryPrimary(DescriptionRequestedEvent task) {
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+
+            CompletableFuture<String> call = null;
+
+            try {
+                call = CompletableFuture.supplyAsync(
+                        () -> primary.generate(task.getRequest(), task.getScore(), task.getClassification()),
+                        calls
+                );
+                String description = call.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                circuitBreaker.recordSuccess();
+                return description;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+
+            } catch (TimeoutException | ExecutionException | RejectedExecutionException e) {
+                if (call != null) {
+                    call.cancel(true);
+                }
+                failureCounter.increment();
+                circuitBreaker.recordFailure();
+                log.warn("Falha ao gerar descrição da avaliação {} (tentativa {}/{}): {}",
+                        task.getEvaluationId(), attempt, maxAttempts, e.toString());
+
+                if (!circuitBreaker.allowRequest() || !sleep(retryBackoff.multipliedBy(attempt))) {
+                    return null;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void store(DescriptionRequestedEvent task, String description, Integer template) {
+        storeTransaction.executeWithoutResult(status -> {
+            evaluationRepository.updatePendingDescription(
+                    task.getEvaluationId(),
+                    description,
+                    template,
+                    DescriptionStatus.READY,
+                    DescriptionStatus.PENDING
+            );
+            userCacheKeys.invalidate(task.getUserId());
+        });
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private EvaluationRequestDTO toRequest(Evaluation evaluation) {
+        EvaluationRequestDTO dto = new EvaluationRequestDTO();
+        dto.setProjectName(evaluation.getProjectName());
+        dto.setLanguage(evaluation.getLanguage());
+        dto.setLinesOfCode(evaluation.getLinesOfCode());
+        dto.setComplexity(evaluation.getComplexity());
+        dto.setHasTests(evaluation.isHasTests());
+        dto.setUsesGit(evaluation.isUsesGit());
+        dto.setAnalyzedBy(evaluation.getAnalyzedBy());
+        return dto;
+    }
+}
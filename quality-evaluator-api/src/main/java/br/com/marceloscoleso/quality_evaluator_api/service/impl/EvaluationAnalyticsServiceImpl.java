@@ -0,0 +1,295 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.BusinessMetrics;
+import br.com.marceloscoleso.quality_evaluator_api.config.BusinessMetrics.Operation;
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.event.EvaluationChangedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.exception.BusinessException;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationSpecifications;
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationAnalyticsService;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/*
+ * Agregações ad hoc (GET /evaluations/analytics) sobre as avaliações do usuário em memória,
+ * em colunas (EvaluationColumns). O conjunto do usuário é lido do banco na primeira consulta
+ * e depois acompanha as escritas pelo EvaluationChangedEvent, sem nova leitura.
+ * O cache é limitado pelo total de linhas guardadas.
+ *
+ * Cada conjunto tem o próprio lock, então um usuário nunca espera pelo de outro. A leitura do
+ * banco roda sem lock nenhum: escritas confirmadas enquanto ela corre ficam guardadas e são
+ * reaplicadas antes de o conjunto entrar no cache (reaplicar é idempotente por id).
+ */
+@Service
+public class EvaluationAnalyticsServiceImpl implements EvaluationAnalyticsService {
+
+    private static final Set<EvaluationField> COLUMNS = Collections.unmodifiableSet(EnumSet.of(
+            EvaluationField.ID,
+            EvaluationField.SCORE,
+            EvaluationField.COMPLEXITY,
+            EvaluationField.LINES_OF_CODE,
+            EvaluationField.LANGUAGE,
+            EvaluationField.CLASSIFICATION,
+            EvaluationField.HAS_TESTS,
+            EvaluationField.USES_GIT,
+            EvaluationField.CREATED_AT
+    ));
+
+    private final EvaluationRepository evaluationRepository;
+    private final UserRepository userRepository;
+    private final BusinessMetrics metrics;
+    private final TransactionTemplate readOnly;
+    private final int maxGroups;
+    private final int fetchSize;
+
+    private final Cache<Long, UserColumns> stores;
+
+    // Leituras em andamento; consultas simultâneas do mesmo usuário esperam a mesma leitura
+    private final ConcurrentMap<Long, Loading> loading = new ConcurrentHashMap<>();
+
+    public EvaluationAnalyticsServiceImpl(
+            EvaluationRepository evaluationRepository,
+            UserRepository userRepository,
+            BusinessMetrics metrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.analytics.max-rows:5000000}") long maxRows,
+            @Value("${app.analytics.max-groups:100000}") int maxGroups,
+            @Value("${app.analytics.fetch-size:1000}") int fetchSize
+    ) {
+        this.evaluationRepository = evaluationRepository;
+        this.userRepository = userRepository;
+        this.metrics = metrics;
+        this.maxGroups = maxGroups;
+        this.fetchSize = fetchSize;
+
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+
+        this.stores = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((Long userId, UserColumns store) -> Math.max(1, store.columns.size()))
+                .softValues()
+                .build();
+    }
+
+    @Override
+    public AnalyticsResultDTO query(AnalyticsQuery query) {
+
+        if (query.getStartDate() != null &&
+            query.getEndDate() != null &&
+            query.getStartDate().isAfter(query.getEndDate())) {
+
+            throw new BusinessException(
+                    "A data inicial não pode ser maior que a data final"
+            );
+        }
+
+        Long userId = AuthenticatedUser.current().getId();
+
+        return metrics.record(Operation.ANALYTICS, () -> {
+
+            UserColumns store = stores.getIfPresent(userId);
+            if (store == null) {
+                store = loadOnce(userId);
+            }
+
+            // Consultas do mesmo usuário agregam em paralelo; só as escritas dele são exclusivas
+            store.lock.readLock().lock();
+            try {
+                return store.columns.aggregate(query, maxGroups);
+            } finally {
+                store.lock.readLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void evict(Long userId) {
+        loading.remove(userId);
+        stores.invalidate(userId);
+    }
+
+    // Só atualiza conjuntos já carregados (ou em leitura); os demais leem o estado atual na primeira consulta
+    @TransactionalEventListener
+    public void onEvaluationChanged(EvaluationChangedEvent event) {
+
+        Long userId = event.getUserId();
+
+        Loading inProgress = loading.get(userId);
+        if (inProgress != null && inProgress.defer(event)) {
+            return;
+        }
+
+        UserColumns store = stores.getIfPresent(userId);
+        if (store == null) {
+            return;
+        }
+
+        store.lock.writeLock().lock();
+        try {
+            apply(store.columns, event);
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+
+        // Reinsere para o cache recalcular o peso
+        stores.asMap().replace(userId, store, store);
+    }
+
+    private UserColumns loadOnce(Long userId) {
+
+        Loading mine = new Loading();
+        Loading running = loading.putIfAbsent(userId, mine);
+
+        if (running != null) {
+            return running.await();
+        }
+
+        try {
+            EvaluationColumns columns = load(userId);
+            UserColumns store = new UserColumns(columns);
+
+            // Publica e fecha a fila no mesmo bloco: um evento ou entra na fila, ou encontra o conjunto no cache
+            mine.lock.lock();
+            try {
+                mine.pending.forEach(event -> apply(columns, event));
+                mine.pending.clear();
+                mine.done = true;
+
+                stores.put(userId, store);
+                if (!loading.remove(userId, mine)) {
+                    // evict durante a leitura (usuário excluído)
+                    stores.invalidate(userId);
+                }
+            } finally {
+                mine.lock.unlock();
+            }
+
+            mine.result.complete(store);
+            return store;
+
+        } catch (RuntimeException | Error e) {
+            mine.lock.lock();
+            try {
+                mine.done = true;
+            } finally {
+                mine.lock.unlock();
+            }
+            loading.remove(userId, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private EvaluationColumns load(Long userId) {
+        return readOnly.execute(status -> {
+
+            EvaluationColumns store = new EvaluationColumns();
+
+            try (Stream<Tuple> rows = evaluationRepository.streamRows(
+                    EvaluationSpecifications.belongsTo(userRepository.getReferenceById(userId)),
+                    Sort.unsorted(),
+                    COLUMNS,
+                    fetchSize)) {
+
+                rows.forEach(row -> store.put(
+                        row.get(EvaluationField.ID.getProperty(), Long.class),
+                        row.get(EvaluationField.SCORE.getProperty(), Integer.class),
+                        row.get(EvaluationField.COMPLEXITY.getProperty(), Integer.class),
+                        row.get(EvaluationField.LINES_OF_CODE.getProperty(), Integer.class),
+                        row.get(EvaluationField.LANGUAGE.getProperty(), Language.class),
+                        row.get(EvaluationField.CLASSIFICATION.getProperty(), Classification.class),
+                        row.get(EvaluationField.HAS_TESTS.getProperty(), Boolean.class),
+                        row.get(EvaluationField.USES_GIT.getProperty(), Boolean.class),
+                        row.get(EvaluationField.CREATED_AT.getProperty(), LocalDateTime.class).toLocalDate()
+                ));
+            }
+
+            return store;
+        });
+    }
+
+    private static void apply(EvaluationColumns columns, EvaluationChangedEvent event) {
+        if (event.getAfter() != null) {
+            columns.put(event.getAfter());
+        } else if (event.getBefore() != null) {
+            columns.remove(event.getBefore().getId());
+        }
+    }
+
+    private static final class UserColumns {
+
+        private final EvaluationColumns columns;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private UserColumns(EvaluationColumns columns) {
+            this.columns = columns;
+        }
+    }
+
+    private static final class Loading {
+
+        private final CompletableFuture<UserColumns> result = new CompletableFuture<>();
+        private final List<EvaluationChangedEvent> pending = new ArrayList<>();
+        private final Lock lock = new ReentrantLock();
+        private boolean done;
+
+        // false: a leitura já terminou e o evento vai direto para o conjunto
+        private boolean defer(EvaluationChangedEvent event) {
+            lock.lock();
+            try {
+                if (done) {
+                    return false;
+                }
+                pending.add(event);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private UserColumns await() {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+                if (e.getCause() instanceof Error error) throw error;
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Consulta interrompida", e);
+            }
+        }
+    }
+}
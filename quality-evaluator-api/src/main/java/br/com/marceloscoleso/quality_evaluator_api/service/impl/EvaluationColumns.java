@@ -0,0 +1,474 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsGroupDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.exception.BadRequestException;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery.Dimension;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery.Function;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery.Measure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Avaliações de um usuário em colunas de tipos primitivos (enums pelo ordinal, createdAt em dia
+// desde 1970). A agregação percorre os arrays e acumula em arrays indexados pelo grupo, sem criar
+// objetos por linha. Não é thread-safe: EvaluationAnalyticsServiceImpl serializa o acesso por usuário.
+public final class EvaluationColumns {
+
+    // complexity e linesOfCode ausentes (a validação exige valores a partir de 1)
+    private static final int MISSING = 0;
+
+    private static final int MAX_COMPLEXITY = 5;
+
+    // linesOfCode por ordem de grandeza: 1-9, 10-99, ..., 100000+
+    private static final int LINES_BUCKETS = 6;
+
+    private static final Language[] LANGUAGES = Language.values();
+    private static final Classification[] CLASSIFICATIONS = Classification.values();
+
+    private int size;
+
+    private long[] ids;
+    private int[] scores;
+    private byte[] complexities;
+    private int[] linesOfCode;
+    private byte[] languages;
+    private byte[] classifications;
+    private int[] epochDays;
+    private boolean[] hasTests;
+    private boolean[] usesGit;
+
+    private int minDay = Integer.MAX_VALUE;
+    private int maxDay = Integer.MIN_VALUE;
+
+    // Índice id -> linha com endereçamento aberto; slotRows guarda linha + 1 (0 é posição livre)
+    private long[] slotIds;
+    private int[] slotRows;
+    private int slotShift;
+
+    public EvaluationColumns() {
+        this(64);
+    }
+
+    public EvaluationColumns(int capacity) {
+        allocate(Math.max(16, capacity));
+        allocateIndex(Math.max(16, capacity));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void put(EvaluationSnapshot evaluation) {
+        put(
+                evaluation.getId(),
+                evaluation.getScore(),
+                evaluation.getComplexity(),
+                evaluation.getLinesOfCode(),
+                evaluation.getLanguage(),
+                evaluation.getClassification(),
+                evaluation.isHasTests(),
+                evaluation.isUsesGit(),
+                evaluation.getCreatedOn()
+        );
+    }
+
+    // Insere ou substitui a avaliação com esse id
+    public void put(
+            long id,
+            int score,
+            Integer complexity,
+            Integer lines,
+            Language language,
+            Classification classification,
+            boolean tests,
+            boolean git,
+            LocalDate createdOn
+    ) {
+        int row = find(id);
+
+        if (row < 0) {
+            if (size == ids.length) {
+                allocate(size + (size >> 1));
+            }
+            row = size++;
+            ids[row] = id;
+            index(id, row);
+        }
+
+        int day = (int) createdOn.toEpochDay();
+
+        scores[row] = score;
+        complexities[row] = (byte) (complexity == null || complexity < 1 || complexity > Byte.MAX_VALUE
+                ? MISSING
+                : complexity);
+        linesOfCode[row] = lines == null || lines < 1 ? MISSING : lines;
+        languages[row] = (byte) (language == null ? Language.OTHER : language).ordinal();
+        classifications[row] = (byte) (classification == null
+                ? EvaluationScoring.classify(score)
+                : classification).ordinal();
+        epochDays[row] = day;
+        hasTests[row] = tests;
+        usesGit[row] = git;
+
+        minDay = Math.min(minDay, day);
+        maxDay = Math.max(maxDay, day);
+    }
+
+    // A última linha ocupa o lugar da removida: a ordem das linhas não importa para agregar
+    public boolean remove(long id) {
+
+        int row = find(id);
+        if (row < 0) {
+            return false;
+        }
+
+        unindex(id);
+        int last = --size;
+
+        if (row != last) {
+            ids[row] = ids[last];
+            scores[row] = scores[last];
+            complexities[row] = complexities[last];
+            linesOfCode[row] = linesOfCode[last];
+            languages[row] = languages[last];
+            classifications[row] = classifications[last];
+            epochDays[row] = epochDays[last];
+            hasTests[row] = hasTests[last];
+            usesGit[row] = usesGit[last];
+            slotRows[slotOf(ids[row])] = row + 1;
+        }
+
+        return true;
+    }
+
+    public AnalyticsResultDTO aggregate(AnalyticsQuery query, int maxGroups) {
+
+        Dimension[] dimensions = query.getDimensions().toArray(Dimension[]::new);
+        List<String> groupBy = query.getDimensions().stream().map(Dimension::getProperty).toList();
+        String bucket = query.getBucket() == null ? null : query.getBucket().name().toLowerCase(Locale.ROOT);
+
+        int firstDay = query.getStartDate() == null
+                ? minDay
+                : Math.max(minDay, (int) query.getStartDate().toEpochDay());
+        int lastDay = query.getEndDate() == null
+                ? maxDay
+                : Math.min(maxDay, (int) query.getEndDate().toEpochDay());
+
+        if (size == 0 || firstDay > lastDay) {
+            return new AnalyticsResultDTO(groupBy, query.metricName(), bucket, 0, List.of());
+        }
+
+        // Período de cada dia do intervalo; a tabela tem um item por dia, não por avaliação
+        int[] periodOfDay = null;
+        List<LocalDate> periodStarts = null;
+
+        if (query.getBucket() != null) {
+            periodOfDay = new int[lastDay - firstDay + 1];
+            periodStarts = new ArrayList<>();
+            for (int day = firstDay; day <= lastDay; day++) {
+                LocalDate start = query.getBucket().startOf(LocalDate.ofEpochDay(day));
+                if (periodStarts.isEmpty() || !periodStarts.get(periodStarts.size() - 1).equals(start)) {
+                    periodStarts.add(start);
+                }
+                periodOfDay[day - firstDay] = periodStarts.size() - 1;
+            }
+        }
+
+        int[] radix = new int[dimensions.length];
+        long cells = 1;
+        for (int d = 0; d < dimensions.length; d++) {
+            radix[d] = cardinality(dimensions[d], periodStarts);
+            cells *= radix[d];
+        }
+        if (cells > maxGroups) {
+            throw new BadRequestException("A agregação passaria de " + maxGroups
+                    + " grupos; use menos dimensões, um período maior ou um intervalo de datas menor");
+        }
+
+        Function function = query.getFunction();
+        Measure measure = query.getMeasure();
+
+        long[] counts = new long[(int) cells];
+        long[] measured = function == Function.COUNT ? null : new long[(int) cells];
+        long[] sums = function == Function.SUM || function == Function.AVG ? new long[(int) cells] : null;
+        int[] extremes = function == Function.MIN || function == Function.MAX ? new int[(int) cells] : null;
+        boolean min = function == Function.MIN;
+        long considered = 0;
+
+        // Grupo de cada linha, uma dimensão por vez; negativo: fora do intervalo de datas
+        int[] cellOf = new int[size];
+        if (firstDay > minDay || lastDay < maxDay) {
+            for (int row = 0; row < size; row++) {
+                if (epochDays[row] < firstDay || epochDays[row] > lastDay) {
+                    cellOf[row] = -1;
+                }
+            }
+        }
+        for (int d = 0; d < dimensions.length; d++) {
+            addCodes(dimensions[d], radix[d], cellOf, firstDay, periodOfDay);
+        }
+
+        for (int row = 0; row < size; row++) {
+
+            int cell = cellOf[row];
+            if (cell < 0) {
+                continue;
+            }
+
+            counts[cell]++;
+            considered++;
+
+            if (measured == null) {
+                continue;
+            }
+
+            int value = value(measure, row);
+            if (value == MISSING && measure != Measure.SCORE) {
+                continue;
+            }
+
+            if (sums != null) {
+                sums[cell] += value;
+            } else if (measured[cell] == 0 || (min ? value < extremes[cell] : value > extremes[cell])) {
+                extremes[cell] = value;
+            }
+            measured[cell]++;
+        }
+
+        List<AnalyticsGroupDTO> groups = new ArrayList<>();
+        int[] digits = new int[dimensions.length];
+
+        for (int cell = 0; cell < cells; cell++) {
+
+            if (counts[cell] == 0) {
+                continue;
+            }
+
+            int rest = cell;
+            for (int d = dimensions.length - 1; d >= 0; d--) {
+                digits[d] = rest % radix[d];
+                rest /= radix[d];
+            }
+
+            Map<String, Object> key = new LinkedHashMap<>();
+            for (int d = 0; d < dimensions.length; d++) {
+                key.put(dimensions[d].getProperty(), label(dimensions[d], digits[d], periodStarts));
+            }
+
+            groups.add(new AnalyticsGroupDTO(key, counts[cell], result(function, cell, counts, measured, sums, extremes)));
+        }
+
+        return new AnalyticsResultDTO(groupBy, query.metricName(), bucket, considered, groups);
+    }
+
+    // cellOf[row] = cellOf[row] * radix + código da dimensão; linhas negativas continuam negativas
+    private void addCodes(Dimension dimension, int radix, int[] cellOf, int firstDay, int[] periodOfDay) {
+        switch (dimension) {
+            case LANGUAGE -> {
+                for (int row = 0; row < size; row++) {
+                    cellOf[row] = cellOf[row] * radix + languages[row];
+                }
+            }
+            case CLASSIFICATION -> {
+                for (int row = 0; row < size; row++) {
+                    cellOf[row] = cellOf[row] * radix + classifications[row];
+                }
+            }
+            case HAS_TESTS -> {
+                for (int row = 0; row < size; row++) {
+                    cellOf[row] = cellOf[row] * radix + (hasTests[row] ? 1 : 0);
+                }
+            }
+            case USES_GIT -> {
+                for (int row = 0; row < size; row++) {
+                    cellOf[row] = cellOf[row] * radix + (usesGit[row] ? 1 : 0);
+                }
+            }
+            case COMPLEXITY -> {
+                for (int row = 0; row < size; row++) {
+                    cellOf[row] = cellOf[row] * radix + (complexities[row] <= MAX_COMPLEXITY ? complexities[row] : MISSING);
+                }
+            }
+            case LINES_OF_CODE -> {
+                for (int row = 0; row < size; row++) {
+                    cellOf[row] = cellOf[row] * radix + linesBucket(linesOfCode[row]);
+                }
+            }
+            case CREATED_AT -> {
+                for (int row = 0; row < size; row++) {
+                    if (cellOf[row] >= 0) {
+                        cellOf[row] = cellOf[row] * radix + periodOfDay[epochDays[row] - firstDay];
+                    }
+                }
+            }
+        }
+    }
+
+    private int value(Measure measure, int row) {
+        return switch (measure) {
+            case SCORE -> scores[row];
+            case COMPLEXITY -> complexities[row];
+            case LINES_OF_CODE -> linesOfCode[row];
+        };
+    }
+
+    private static int cardinality(Dimension dimension, List<LocalDate> periodStarts) {
+        return switch (dimension) {
+            case LANGUAGE -> LANGUAGES.length;
+            case CLASSIFICATION -> CLASSIFICATIONS.length;
+            case HAS_TESTS, USES_GIT -> 2;
+            case COMPLEXITY -> MAX_COMPLEXITY + 1;
+            case LINES_OF_CODE -> LINES_BUCKETS + 1;
+            case CREATED_AT -> periodStarts.size();
+        };
+    }
+
+    private static Object label(Dimension dimension, int code, List<LocalDate> periodStarts) {
+        return switch (dimension) {
+            case LANGUAGE -> LANGUAGES[code];
+            case CLASSIFICATION -> CLASSIFICATIONS[code];
+            case HAS_TESTS, USES_GIT -> code == 1;
+            case COMPLEXITY -> code == MISSING ? null : code;
+            case LINES_OF_CODE -> linesLabel(code);
+            case CREATED_AT -> periodStarts.get(code);
+        };
+    }
+
+    private static Number result(
+            Function function,
+            int cell,
+            long[] counts,
+            long[] measured,
+            long[] sums,
+            int[] extremes
+    ) {
+        if (function == Function.COUNT) {
+            return counts[cell];
+        }
+        if (measured[cell] == 0) {
+            return null;
+        }
+        return switch (function) {
+            case SUM -> sums[cell];
+            case AVG -> (double) sums[cell] / measured[cell];
+            default -> extremes[cell];
+        };
+    }
+
+    private static int linesBucket(int lines) {
+
+        if (lines == MISSING) {
+            return MISSING;
+        }
+
+        int bucket = 1;
+        for (int limit = 10; lines >= limit && bucket < LINES_BUCKETS; limit *= 10) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static String linesLabel(int bucket) {
+
+        if (bucket == MISSING) {
+            return null;
+        }
+
+        int lower = (int) Math.pow(10, bucket - 1);
+        return bucket == LINES_BUCKETS ? lower + "+" : lower + "-" + (lower * 10 - 1);
+    }
+
+    private void allocate(int capacity) {
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        scores = scores == null ? new int[capacity] : Arrays.copyOf(scores, capacity);
+        complexities = complexities == null ? new byte[capacity] : Arrays.copyOf(complexities, capacity);
+        linesOfCode = linesOfCode == null ? new int[capacity] : Arrays.copyOf(linesOfCode, capacity);
+        languages = languages == null ? new byte[capacity] : Arrays.copyOf(languages, capacity);
+        classifications = classifications == null ? new byte[capacity] : Arrays.copyOf(classifications, capacity);
+        epochDays = epochDays == null ? new int[capacity] : Arrays.copyOf(epochDays, capacity);
+        hasTests = hasTests == null ? new boolean[capacity] : Arrays.copyOf(hasTests, capacity);
+        usesGit = usesGit == null ? new boolean[capacity] : Arrays.copyOf(usesGit, capacity);
+    }
+
+    // Tabela com no mínimo o dobro das linhas: sondagens curtas
+    private void allocateIndex(int rows) {
+        int slots = Integer.highestOneBit(Math.max(16, rows) * 2 - 1) << 1;
+        slotIds = new long[slots];
+        slotRows = new int[slots];
+        slotShift = 64 - Integer.numberOfTrailingZeros(slots);
+    }
+
+    private int home(long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> slotShift);
+    }
+
+    private int find(long id) {
+        int slot = slotOf(id);
+        return slot < 0 ? -1 : slotRows[slot] - 1;
+    }
+
+    private int slotOf(long id) {
+        int mask = slotIds.length - 1;
+        for (int slot = home(id); slotRows[slot] != 0; slot = (slot + 1) & mask) {
+            if (slotIds[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void index(long id, int row) {
+
+        if ((size << 1) > slotIds.length) {
+            allocateIndex(size);
+            for (int existing = 0; existing < size; existing++) {
+                if (existing != row) {
+                    insertSlot(ids[existing], existing);
+                }
+            }
+        }
+
+        insertSlot(id, row);
+    }
+
+    private void insertSlot(long id, int row) {
+        int mask = slotIds.length - 1;
+        int slot = home(id);
+        while (slotRows[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slotIds[slot] = id;
+        slotRows[slot] = row + 1;
+    }
+
+    // Remoção com deslocamento para trás: mantém as sequências de sondagem sem marcadores
+    private void unindex(long id) {
+
+        int mask = slotIds.length - 1;
+        int hole = slotOf(id);
+
+        for (int slot = (hole + 1) & mask; slotRows[slot] != 0; slot = (slot + 1) & mask) {
+            int home = home(slotIds[slot]);
+            boolean movable = hole <= slot
+                    ? home <= hole || home > slot
+                    : home <= hole && home > slot;
+            if (movable) {
+                slotIds[hole] = slotIds[slot];
+                slotRows[hole] = slotRows[slot];
+                hole = slot;
+            }
+        }
+
+        slotRows[hole] = 0;
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationResponseDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public final class EvaluationMapper {
+
+    private EvaluationMapper() {
+    }
+
+    public static EvaluationResponseDTO toResponseDTO(Evaluation evaluation) {
+
+        EvaluationResponseDTO dto = new EvaluationResponseDTO();
+
+        dto.setId(evaluation.getId());
+        dto.setProjectName(evaluation.getProjectName());
+        dto.setLanguage(evaluation.getLanguage());
+        dto.setScore(evaluation.getScore());
+        dto.setClassification(evaluation.getClassification());
+        dto.setAnalyzedBy(evaluation.getAnalyzedBy());
+        dto.setCreatedAt(evaluation.getCreatedAt());
+
+        dto.setHasTests(evaluation.isHasTests());
+        dto.setUsesGit(evaluation.isUsesGit());
+
+        dto.setLinesOfCode(evaluation.getLinesOfCode());
+        dto.setComplexity(evaluation.getComplexity());
+        dto.setDescription(description(
+                evaluation.getDescriptionTemplate(),
+                evaluation.getDescription(),
+                evaluation.getProjectName(),
+                evaluation.getLanguage(),
+                evaluation.getLinesOfCode(),
+                evaluation.getComplexity(),
+                evaluation.isHasTests(),
+                evaluation.isUsesGit(),
+                evaluation.getScore(),
+                evaluation.getClassification()
+        ));
+        dto.setDescriptionStatus(
+                evaluation.getDescriptionStatus() == null
+                        ? DescriptionStatus.READY
+                        : evaluation.getDescriptionStatus()
+        );
+        return dto;
+    }
+
+    // Linha de uma projeção: preenche só os campos selecionados, o resto fica no valor padrão
+    // e é omitido da resposta pelo filtro de campos. DESCRIPTION exige também as colunas
+    // que o template usa (ver EvaluationField.DESCRIPTION_INPUTS)
+    public static EvaluationResponseDTO toResponseDTO(Tuple row, Set<EvaluationField> fields) {
+
+        EvaluationResponseDTO dto = new EvaluationResponseDTO();
+
+        for (EvaluationField field : fields) {
+
+            Object value = row.get(field.getProperty());
+
+            switch (field) {
+                case ID -> dto.setId((Long) value);
+                case PROJECT_NAME -> dto.setProjectName((String) value);
+                case LANGUAGE -> dto.setLanguage((Language) value);
+                case HAS_TESTS -> dto.setHasTests((Boolean) value);
+                case USES_GIT -> dto.setUsesGit((Boolean) value);
+                case SCORE -> dto.setScore((Integer) value);
+                case CLASSIFICATION -> dto.setClassification((Classification) value);
+                case ANALYZED_BY -> dto.setAnalyzedBy((String) value);
+                case CREATED_AT -> dto.setCreatedAt((LocalDateTime) value);
+                case LINES_OF_CODE -> dto.setLinesOfCode((Integer) value);
+                case COMPLEXITY -> dto.setComplexity((Integer) value);
+                case DESCRIPTION -> dto.setDescription(description(
+                        row.get("descriptionTemplate", Integer.class),
+                        (String) value,
+                        row.get(EvaluationField.PROJECT_NAME.getProperty(), String.class),
+                        row.get(EvaluationField.LANGUAGE.getProperty(), Language.class),
+                        row.get(EvaluationField.LINES_OF_CODE.getProperty(), Integer.class),
+                        row.get(EvaluationField.COMPLEXITY.getProperty(), Integer.class),
+                        row.get(EvaluationField.HAS_TESTS.getProperty(), Boolean.class),
+                        row.get(EvaluationField.USES_GIT.getProperty(), Boolean.class),
+                        row.get(EvaluationField.SCORE.getProperty(), Integer.class),
+                        row.get(EvaluationField.CLASSIFICATION.getProperty(), Classification.class)
+                ));
+                case DESCRIPTION_STATUS -> dto.setDescriptionStatus(
+                        value == null ? DescriptionStatus.READY : (DescriptionStatus) value);
+            }
+        }
+
+        return dto;
+    }
+
+    // Descrição gerada guardada como código de template: o texto é montado com as colunas
+    // da própria avaliação. Texto escrito pelo usuário (ou de outro gerador) vem como está.
+    private static String description(
+            Integer template,
+            String text,
+            String projectName,
+            Language language,
+            Integer linesOfCode,
+            Integer complexity,
+            boolean hasTests,
+            boolean usesGit,
+            int score,
+            Classification classification
+    ) {
+        if (template == null) {
+            return text;
+        }
+
+        return DescriptionTemplates.render(template, projectName, language, linesOfCode, complexity,
+                hasTests, usesGit, score, classification);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+
+// Regras de pontuação e classificação; funções puras, usadas pelo serviço e pelos benchmarks
+public final class EvaluationScoring {
+
+    private EvaluationScoring() {
+    }
+
+    public static int calculateScore(EvaluationRequestDTO dto) {
+
+        int score = 0;
+
+        switch (dto.getLanguage()) {
+            case JAVA, CSHARP, RUST -> score += 18;
+            case CPP, GO, KOTLIN -> score += 16;
+            case PYTHON, TYPESCRIPT, SWIFT -> score += 14;
+            case JAVASCRIPT -> score += 12;
+            case C -> score += 13;
+            case PHP, RUBY, DART -> score += 10;
+            case OTHER -> score += 8;
+        }
+
+        int lines = dto.getLinesOfCode();
+
+        if (lines <= 100) score += 5;
+        else if (lines <= 500) score += 18;
+        else if (lines <= 1000) score += 15;
+        else if (lines <= 5000) score += 10;
+        else score += 5;
+
+        switch (dto.getComplexity()) {
+            case 1 -> score += 20;
+            case 2 -> score += 15;
+            case 3 -> score += 8;
+            case 4 -> score -= 10;
+            case 5 -> score -= 20;
+        }
+
+        if (Boolean.TRUE.equals(dto.getHasTests()))
+            score += 20;
+        else
+            score -= 10;
+
+        if (Boolean.TRUE.equals(dto.getUsesGit()))
+            score += 8;
+        else
+            score -= 5;
+
+        score += simulateCodeQuality(dto.getProjectName(), dto.getLanguage());
+
+        if (score > 100) return 100;
+        if (score < 0) return 0;
+
+        return score;
+    }
+
+    public static int simulateCodeQuality(String projectName, Language language) {
+
+        int qualityScore = 0;
+
+        int nameLength = projectName.length();
+
+        if (nameLength <= 10) qualityScore += 3;
+        else if (nameLength <= 20) qualityScore += 6;
+        else qualityScore += 8;
+
+        switch (language) {
+            case JAVA, CSHARP, RUST -> qualityScore += 6;
+            case CPP, GO -> qualityScore += 5;
+            case PYTHON, TYPESCRIPT, KOTLIN, SWIFT -> qualityScore += 4;
+            default -> qualityScore += 3;
+        }
+
+        int variation = Math.abs(projectName.hashCode() % 5);
+        qualityScore += variation;
+
+        return qualityScore;
+    }
+
+    public static Classification classify(int score) {
+
+        if (score >= 85) return Classification.EXCELENTE;
+        if (score >= 70) return Classification.BOM;
+        if (score >= 50) return Classification.REGULAR;
+
+        return Classification.RUIM;
+    }
+}
@@ -1,374 +1,598 @@
 package br.com.marceloscoleso.quality_evaluator_api.service.impl;
 
+import br.com.marceloscoleso.quality_evaluator_api.config.BusinessMetrics;
+import br.com.marceloscoleso.quality_evaluator_api.config.BusinessMetrics.Operation;
+import br.com.marceloscoleso.quality_evaluator_api.config.CacheConfig;
+import br.com.marceloscoleso.quality_evaluator_api.config.UserCacheKeys;
 import br.com.marceloscoleso.quality_evaluator_api.dto.*;
+import br.com.marceloscoleso.quality_evaluator_api.event.DescriptionRequestedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.event.EvaluationChangedEvent;
 import br.com.marceloscoleso.quality_evaluator_api.model.*;
 import br.com.marceloscoleso.quality_evaluator_api.exception.*;
 import br.com.marceloscoleso.quality_evaluator_api.repository.*;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+import br.com.marceloscoleso.quality_evaluator_api.service.AnalystService;
 import br.com.marceloscoleso.quality_evaluator_api.service.DescriptionGeneratorService;
 import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationService;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+import br.com.marceloscoleso.quality_evaluator_api.service.ProjectNameIndexService;
+import br.com.marceloscoleso.quality_evaluator_api.util.CountingOutputStream;
 import br.com.marceloscoleso.quality_evaluator_api.util.CsvExporterApi;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationCursor;
+import br.com.marceloscoleso.quality_evaluator_api.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 
-import io.micrometer.core.instrument.*;
+import jakarta.persistence.Tuple;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.*;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class EvaluationServiceImpl implements EvaluationService {
 
     private static final Logger log = LoggerFactory.getLogger(EvaluationServiceImpl.class);
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "createdAt", "projectName", "language", "score",
+            "classification", "linesOfCode", "complexity"
+    );
+
+    private static final Sort CURSOR_SORT =
+            Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final EvaluationRepository evaluationRepository;
-    private final MeterRegistry meterRegistry;
+    private final BusinessMetrics metrics;
     private final UserRepository userRepository;
     private final DescriptionGeneratorService descriptionGeneratorService;
+    private final EvaluationSummaryService summaryService;
+    private final ProjectNameIndexService projectNameIndex;
+    private final AnalystService analystService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate exportTransaction;
+    // Escritas: nomes de analista novos entram no dicionário antes de a transação abrir
+    private final TransactionTemplate writeTransaction;
+    private final int exportFetchSize;
+    private final int maxBatchSize;
+    private final int streamChunkSize;
+    private final boolean deferredDescriptions;
+
+    // Leituras que varrem o histórico do usuário; pedidos iguais e simultâneos (várias abas,
+    // carga inicial da tela) dividem uma execução
+    private final UserCacheKeys userCacheKeys;
+    private final SingleFlight statsFlight;
+    private final SingleFlight dashboardFlight;
+    private final SingleFlight filterFlight;
 
     public EvaluationServiceImpl(
             EvaluationRepository evaluationRepository,
-            MeterRegistry meterRegistry,
+            BusinessMetrics metrics,
             UserRepository userRepository,
-            DescriptionGeneratorService descriptionGeneratorService
+            DescriptionGeneratorService descriptionGeneratorService,
+            EvaluationSummaryService summaryService,
+            ProjectNameIndexService projectNameIndex,
+            AnalystService analystService,
+            ApplicationEventPublisher eventPublisher,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            UserCacheKeys userCacheKeys,
+            MeterRegistry meterRegistry,
+            @Value("${app.export.fetch-size:500}") int exportFetchSize,
+            @Value("${app.batch.max-size:500}") int maxBatchSize,
+            @Value("${app.stream.chunk-size:200}") int streamChunkSize,
+            @Value("${app.description.mode:inline}") String descriptionMode,
+            @Value("${app.single-flight.timeout:10s}") Duration singleFlightTimeout
     ) {
         this.evaluationRepository = evaluationRepository;
-        this.meterRegistry = meterRegistry;
+        this.metrics = metrics;
         this.userRepository = userRepository;
         this.descriptionGeneratorService = descriptionGeneratorService;
+        this.summaryService = summaryService;
+        this.projectNameIndex = projectNameIndex;
+        this.analystService = analystService;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.exportFetchSize = exportFetchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.streamChunkSize = Math.max(1, streamChunkSize);
+        this.deferredDescriptions = "deferred".equalsIgnoreCase(descriptionMode);
+        this.userCacheKeys = userCacheKeys;
+        this.statsFlight = new SingleFlight("stats", singleFlightTimeout, meterRegistry);
+        this.dashboardFlight = new SingleFlight("dashboard", singleFlightTimeout, meterRegistry);
+        this.filterFlight = new SingleFlight("filter", singleFlightTimeout, meterRegistry);
     }
 
+    // Referência pelo id vindo do token: não consulta a tabela users
     private User getAuthenticatedUser() {
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
+        return userRepository.getReferenceById(AuthenticatedUser.current().getId());
+    }
+
+    // Inserções: o token de um usuário já excluído continua válido até expirar e terminaria em
+    // violação de FK (500); a consulta pela chave primária devolve 404 antes
+    private User getExistingUser() {
 
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado"));
+        Long userId = AuthenticatedUser.current().getId();
+
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("Usuário não encontrado");
+        }
+
+        return userRepository.getReferenceById(userId);
     }
     
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "evaluations", allEntries = true),
-            @CacheEvict(value = "evaluationStats", allEntries = true)
-    })
     public EvaluationResponseDTO create(EvaluationRequestDTO dto) {
 
         if (dto.getLanguage() == null) {
             throw new InvalidLanguageException("Linguagem inválida");
         }
 
-        return io.micrometer.core.instrument.Timer
-        .builder("business.evaluations.create.time")
-                .register(meterRegistry)
-                .record(() -> {
-
-                    int score = calculateScore(dto);
-                    Classification classification = classify(score);
-
-                    Evaluation evaluation = new Evaluation();
-                    evaluation.setProjectName(dto.getProjectName());
-                    evaluation.setLanguage(dto.getLanguage());
-                    evaluation.setScore(score);
-                    evaluation.setClassification(classification.name());
-                    evaluation.setAnalyzedBy(dto.getAnalyzedBy());
-                    evaluation.setCreatedAt(LocalDateTime.now());
-                    evaluation.setHasTests(dto.getHasTests());
-                    evaluation.setUsesGit(dto.getUsesGit());
-                    evaluation.setLinesOfCode(dto.getLinesOfCode());
-                    evaluation.setComplexity(dto.getComplexity());
-
-                    if (dto.getDescription() != null && !dto.getDescription().trim().isEmpty()) {
-                        evaluation.setDescription(dto.getDescription());
-                    } else {
-                        evaluation.setDescription(
-                            descriptionGeneratorService.generate(dto, score, classification)
-                        );
-                    }
+        return metrics.record(Operation.CREATE, () -> {
+
+            analystService.register(dto.getAnalyzedBy());
+
+            return writeTransaction.execute(status -> {
+
+                User user = getExistingUser();
 
-                    User user = getAuthenticatedUser();
-                    evaluation.setUser(user);
+                Evaluation evaluation = newEvaluation(dto, user);
 
-                    Evaluation saved = evaluationRepository.save(evaluation);
+                Evaluation saved = evaluationRepository.save(evaluation);
+                requestDescriptionIfPending(saved, dto, user);
 
-                    Counter.builder("business.evaluations.created")
-                            .tag("classification", classification.name())
-                            .register(meterRegistry)
-                            .increment();
+                EvaluationSnapshot after = EvaluationSnapshot.of(saved);
+                summaryService.applyDelta(user.getId(), null, after);
+                userCacheKeys.invalidate(user.getId());
+                projectNameIndex.add(user.getId(), saved.getProjectName());
+                eventPublisher.publishEvent(
+                        new EvaluationChangedEvent(user.getId(), AuthenticatedUser.current().getEmail(), null, after));
 
-                    return toResponseDTO(saved);
-                });
+                metrics.created(after.getClassification(), after.getLanguage());
+
+                return EvaluationMapper.toResponseDTO(saved);
+            });
+        });
     }
 
     @Override
-    @Cacheable(value = "evaluations", key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().authentication.name")
-    public Page<EvaluationResponseDTO> findAll(Pageable pageable) {
+    public EvaluationBatchResultDTO createBatch(List<EvaluationRequestDTO> items) {
+        return metrics.record(Operation.BATCH, () -> {
+
+            if (items == null || items.isEmpty()) {
+                throw new BadRequestException("O lote deve conter ao menos uma avaliação");
+            }
+
+            if (items.size() > maxBatchSize) {
+                throw new BadRequestException(
+                        "O lote pode conter no máximo " + maxBatchSize + " avaliações"
+                );
+            }
+
+            List<EvaluationBatchItemDTO> results = new ArrayList<>(items.size());
+            List<Integer> validIndexes = new ArrayList<>(items.size());
+
+            for (int index = 0; index < items.size(); index++) {
+
+                String error = validateBatchItem(items.get(index));
+
+                if (error != null) {
+                    results.add(EvaluationBatchItemDTO.failed(index, error));
+                    continue;
+                }
+
+                validIndexes.add(index);
+            }
+
+            validIndexes.stream()
+                    .map(index -> items.get(index).getAnalyzedBy())
+                    .distinct()
+                    .forEach(analystService::register);
+
+            return writeTransaction.execute(status -> {
+
+                User user = getExistingUser();
+
+                List<Evaluation> toSave = new ArrayList<>(validIndexes.size());
+                for (int index : validIndexes) {
+                    toSave.add(newEvaluation(items.get(index), user));
+                }
+
+                // Ids vêm da sequence em blocos, então o Hibernate agrupa os INSERTs em lotes JDBC
+                List<Evaluation> saved = evaluationRepository.saveAll(toSave);
+                evaluationRepository.flush();
+
+                List<EvaluationSnapshot> created = new ArrayList<>(saved.size());
+
+                for (int i = 0; i < saved.size(); i++) {
+                    Evaluation evaluation = saved.get(i);
+                    EvaluationSnapshot after = EvaluationSnapshot.of(evaluation);
+                    created.add(after);
+
+                    results.add(EvaluationBatchItemDTO.created(validIndexes.get(i), EvaluationMapper.toResponseDTO(evaluation)));
+                    requestDescriptionIfPending(evaluation, items.get(validIndexes.get(i)), user);
+
+                    metrics.created(after.getClassification(), after.getLanguage());
+                }
+
+                summaryService.applyCreated(user.getId(), created);
+                userCacheKeys.invalidate(user.getId());
+                saved.stream()
+                        .map(Evaluation::getProjectName)
+                        .distinct()
+                        .forEach(name -> projectNameIndex.add(user.getId(), name));
+
+                String email = AuthenticatedUser.current().getEmail();
+                for (EvaluationSnapshot after : created) {
+                    eventPublisher.publishEvent(
+                            new EvaluationChangedEvent(user.getId(), email, null, after));
+                }
+
+                results.sort(Comparator.comparingInt(EvaluationBatchItemDTO::getIndex));
+
+                return new EvaluationBatchResultDTO(results);
+            });
+        });
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.EVALUATIONS, key = "@userCacheKeys.of({#pageable, #fields})")
+    public Page<EvaluationResponseDTO> findAll(Pageable pageable, Set<EvaluationField> fields) {
         User user = getAuthenticatedUser();
-        return evaluationRepository.findAllByUser(user, pageable)
-                .map(this::toResponseDTO);
+        Set<EvaluationField> selected = withDescriptionInputs(fields);
+        return evaluationRepository.findPage(EvaluationSpecifications.belongsTo(user), pageable, selected)
+                .map(row -> EvaluationMapper.toResponseDTO(row, selected));
     }
    
 
     @Override
-    @Cacheable(value = "evaluation", key = "#id + '-' + T(org.springframework.security.core.context.SecurityContextHolder).getContext().authentication.name")
+    public CursorPageDTO<EvaluationResponseDTO> findAll(String cursor, int size, Set<EvaluationField> fields) {
+        User user = getAuthenticatedUser();
+        return findSlice(EvaluationSpecifications.belongsTo(user), cursor, size, fields);
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.EVALUATION, key = "@userCacheKeys.of(#id)")
     public EvaluationResponseDTO findById(Long id) {
 
         User user = getAuthenticatedUser();
 
         return evaluationRepository.findByIdAndUser(id, user)
-                .map(this::toResponseDTO)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Avaliação não encontrada"));
+                .map(EvaluationMapper::toResponseDTO)
+                .orElseThrow(this::notFound);
     }
     
 
     @Override
-    public Page<EvaluationResponseDTO> filter(EvaluationFilterDTO filter, Pageable pageable) {
+    public Page<EvaluationResponseDTO> filter(
+            EvaluationFilterDTO filter,
+            Pageable pageable,
+            Set<EvaluationField> fields
+    ) {
+
+        validateFilter(filter);
+
+        User user = getAuthenticatedUser();
+
+        Pageable sortedPageable = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                resolveSort(pageable.getSort())
+        );
+
+        Set<EvaluationField> selected = withDescriptionInputs(fields);
+
+        return filterFlight.execute(
+                userCacheKeys.of(Arrays.asList("page", filter, sortedPageable, selected)),
+                () -> metrics.record(Operation.FILTER, () -> {
+
+                    Page<Tuple> page = evaluationRepository
+                            .findPage(filterSpec(user, filter), sortedPageable, selected);
+
+                    metrics.pageRead(page.getTotalElements(), page.getNumberOfElements());
+
+                    return page.map(row -> EvaluationMapper.toResponseDTO(row, selected));
+                }));
+    }
+   
+
+    @Override
+    public CursorPageDTO<EvaluationResponseDTO> filter(
+            EvaluationFilterDTO filter,
+            String cursor,
+            int size,
+            Set<EvaluationField> fields
+    ) {
 
         validateFilter(filter);
 
         User user = getAuthenticatedUser();
 
-        List<EvaluationResponseDTO> filtered = evaluationRepository.findAllByUser(user).stream()
+        return filterFlight.execute(
+                userCacheKeys.of(Arrays.asList("cursor", filter, cursor, size, fields)),
+                () -> metrics.record(Operation.FILTER,
+                        () -> findSlice(filterSpec(user, filter), cursor, size, fields)));
+    }
+
+    // O seek do cursor precisa de (createdAt, id) mesmo quando o cliente não pediu esses campos;
+    // eles são lidos, mas ficam fora da resposta
+    private static Set<EvaluationField> withCursorFields(Set<EvaluationField> fields) {
+
+        Set<EvaluationField> withInputs = withDescriptionInputs(fields);
+
+        if (withInputs.contains(EvaluationField.ID) && withInputs.contains(EvaluationField.CREATED_AT)) {
+            return withInputs;
+        }
 
-                .filter(e -> {
-                    LocalDate date = e.getCreatedAt().toLocalDate();
-                    if (filter.getStartDate() != null && date.isBefore(filter.getStartDate())) return false;
-                    if (filter.getEndDate() != null && date.isAfter(filter.getEndDate())) return false;
-                    return true;
-                })
+        Set<EvaluationField> selected = EnumSet.copyOf(withInputs);
+        selected.add(EvaluationField.ID);
+        selected.add(EvaluationField.CREATED_AT);
+        return selected;
+    }
 
-                .filter(e ->
-                        filter.getProjectName() == null ||
-                                e.getProjectName().toLowerCase()
-                                        .contains(filter.getProjectName().toLowerCase())
-                )
+    // Descrição guardada como código de template é montada a partir de outras colunas;
+    // pela mesma razão elas são lidas sem aparecer na resposta
+    private static Set<EvaluationField> withDescriptionInputs(Set<EvaluationField> fields) {
 
-                .filter(e ->
-                        filter.getLanguage() == null ||
-                                e.getLanguage() == filter.getLanguage()
-                )
+        if (!fields.contains(EvaluationField.DESCRIPTION)
+                || fields.containsAll(EvaluationField.DESCRIPTION_INPUTS)) {
+            return fields;
+        }
 
-                .filter(e -> {
-                    if (filter.getMinScore() != null && e.getScore() < filter.getMinScore()) return false;
-                    if (filter.getMaxScore() != null && e.getScore() > filter.getMaxScore()) return false;
-                    return true;
-                })
+        Set<EvaluationField> selected = EnumSet.copyOf(fields);
+        selected.addAll(EvaluationField.DESCRIPTION_INPUTS);
+        return selected;
+    }
 
-                .filter(e ->
-                        filter.getClassification() == null ||
-                                e.getClassification().equalsIgnoreCase(filter.getClassification().name())
-                )
+    private static EvaluationCursor cursorOf(EvaluationResponseDTO row) {
+        return new EvaluationCursor(row.getCreatedAt(), row.getId());
+    }
 
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
+    private Specification<Evaluation> filterSpec(User user, EvaluationFilterDTO filter) {
+        return EvaluationSpecifications.fromFilter(
+                user,
+                filter,
+                projectNameIndex.candidates(user.getId(), filter.getProjectName())
+        );
+    }
+
+    private CursorPageDTO<EvaluationResponseDTO> findSlice(
+            Specification<Evaluation> spec,
+            String cursor,
+            int size,
+            Set<EvaluationField> fields
+    ) {
 
-                .map(this::toResponseDTO)
+        if (size < 1) {
+            throw new BadRequestException("O tamanho da página deve ser maior que zero");
+        }
+
+        int limit = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        Set<EvaluationField> selected = withCursorFields(fields);
+
+        // Busca uma linha a mais para saber se há próxima página sem count(*)
+        List<EvaluationResponseDTO> rows = evaluationRepository.findSlice(
+                        spec.and(EvaluationSpecifications.after(EvaluationCursor.decode(cursor))),
+                        CURSOR_SORT,
+                        selected,
+                        limit + 1
+                ).stream()
+                .map(row -> EvaluationMapper.toResponseDTO(row, selected))
                 .toList();
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filtered.size());
+        boolean hasNext = rows.size() > limit;
+        List<EvaluationResponseDTO> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        metrics.cursorRead(rows.size(), pageRows.size());
 
-        List<EvaluationResponseDTO> pageContent =
-                start > filtered.size() ? List.of() : filtered.subList(start, end);
+        String nextCursor = hasNext
+                ? cursorOf(pageRows.get(pageRows.size() - 1)).encode()
+                : null;
 
-        return new PageImpl<>(pageContent, pageable, filtered.size());
+        return new CursorPageDTO<>(pageRows, hasNext, nextCursor);
+    }
+
+    @Override
+    public Flux<EvaluationResponseDTO> stream(EvaluationFilterDTO filter, Set<EvaluationField> fields) {
+
+        validateFilter(filter);
+
+        User user = getAuthenticatedUser();
+
+        Specification<Evaluation> spec = filterSpec(user, filter);
+        Set<EvaluationField> selected = withCursorFields(fields);
+
+        // Blocos por keyset (createdAt, id), cada um em sua própria consulta curta. O próximo bloco
+        // só é lido quando o cliente consumiu o anterior, então a memória não cresce com o histórico.
+        return Flux.<List<EvaluationResponseDTO>, Optional<EvaluationCursor>>generate(
+                        Optional::empty,
+                        (last, sink) -> {
+                            List<EvaluationResponseDTO> rows = evaluationRepository.findSlice(
+                                            spec.and(EvaluationSpecifications.after(last.orElse(null))),
+                                            CURSOR_SORT,
+                                            selected,
+                                            streamChunkSize
+                                    ).stream()
+                                    .map(row -> EvaluationMapper.toResponseDTO(row, selected))
+                                    .toList();
+
+                            if (rows.isEmpty()) {
+                                sink.complete();
+                                return last;
+                            }
+
+                            sink.next(rows);
+
+                            if (rows.size() < streamChunkSize) {
+                                sink.complete();
+                            }
+
+                            return Optional.of(cursorOf(rows.get(rows.size() - 1)));
+                        })
+                .flatMapIterable(chunk -> chunk, 1)
+                .subscribeOn(Schedulers.boundedElastic());
     }
-   
 
     @Override
-    public byte[] exportCsv(EvaluationFilterDTO filter) {
+    public StreamingResponseBody exportCsv(EvaluationFilterDTO filter) {
 
         validateFilter(filter);
 
         User user = getAuthenticatedUser();
 
-        List<Evaluation> evaluations =
-                evaluationRepository.findAllByUser(user);
+        Specification<Evaluation> spec = filterSpec(user, filter);
 
-        if (evaluations.isEmpty()) {
+        if (!evaluationRepository.exists(spec)) {
             throw new BusinessException("Nenhuma avaliação encontrada para exportação");
         }
 
-        return CsvExporterApi.export(evaluations);
+        // A escrita acontece fora da thread da requisição, em uma transação somente leitura
+        return out -> {
+            try {
+                CountingOutputStream counting = new CountingOutputStream(out);
+
+                metrics.record(Operation.EXPORT, () -> exportTransaction.executeWithoutResult(status -> {
+                    try (Stream<EvaluationExportRow> rows =
+                                 evaluationRepository.streamExportRows(spec, CURSOR_SORT, exportFetchSize)) {
+                        metrics.exported(CsvExporterApi.write(rows, counting), counting.getCount());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
     }
     
 
+    // Sem sync=true: o Caffeine carregaria o valor (consulta ao banco) dentro do lock do
+    // ConcurrentHashMap, prendendo a thread portadora quando rodando em threads virtuais.
+    // Misses simultâneos do mesmo usuário esperam a mesma leitura no SingleFlight.
     @Override
-    @Cacheable(value = "evaluationStats",
-            key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().authentication.name")
+    @Cacheable(value = CacheConfig.EVALUATION_STATS, key = "@userCacheKeys.of('stats')")
     public EvaluationStatsDTO getStats() {
 
-        User user = getAuthenticatedUser();
-
-        List<Evaluation> evaluations =
-                evaluationRepository.findAllByUser(user);
-
-        long total = evaluations.size();
+        Long userId = AuthenticatedUser.current().getId();
+        return statsFlight.execute(userCacheKeys.of("stats"), () -> summaryService.getStats(userId));
+    }
 
-        double average = evaluations.stream()
-                .mapToInt(Evaluation::getScore)
-                .average()
-                .orElse(0.0);
+    @Override
+    public EvaluationResponseDTO update(Long id, EvaluationRequestDTO dto) {
+        return metrics.record(Operation.UPDATE, () -> {
 
-        long excellentCount = evaluations.stream()
-                .filter(e -> "EXCELENTE".equalsIgnoreCase(e.getClassification()))
-                .count();
+            analystService.register(dto.getAnalyzedBy());
 
-        return new EvaluationStatsDTO(
-                total,
-                Math.round(average),
-                excellentCount
-        );
-    }   
+            return writeTransaction.execute(status -> {
+                User user = getAuthenticatedUser();
 
-    @Override
-    @Caching(evict = {
-        @CacheEvict(value = "evaluations", allEntries = true),
-        @CacheEvict(value = "evaluation", key = "#id + '-' + T(org.springframework.security.core.context.SecurityContextHolder).getContext().authentication.name"),
-        @CacheEvict(value = "evaluationStats", allEntries = true)
-    })
-    public EvaluationResponseDTO update(Long id, EvaluationRequestDTO dto) {
+                Evaluation evaluation = evaluationRepository
+                        .findByIdAndUser(id, user)
+                        .orElseThrow(this::notFound);
 
-    User user = getAuthenticatedUser();
+                EvaluationSnapshot before = EvaluationSnapshot.of(evaluation);
+                String previousName = evaluation.getProjectName();
 
-    Evaluation evaluation = evaluationRepository
-            .findByIdAndUser(id, user)
-            .orElseThrow(() ->
-                    new ResourceNotFoundException("Avaliação não encontrada"));
+                int score = EvaluationScoring.calculateScore(dto);
+                Classification classification = EvaluationScoring.classify(score);
 
-    int score = calculateScore(dto);
-    Classification classification = classify(score);
+                evaluation.setProjectName(dto.getProjectName());
+                evaluation.setLanguage(dto.getLanguage());
+                evaluation.setLinesOfCode(dto.getLinesOfCode());
+                evaluation.setComplexity(dto.getComplexity());
+                evaluation.setHasTests(dto.getHasTests());
+                evaluation.setUsesGit(dto.getUsesGit());
+                evaluation.setAnalyzedBy(dto.getAnalyzedBy());
+                evaluation.setScore(score);
+                evaluation.setClassification(classification);
 
-    evaluation.setProjectName(dto.getProjectName());
-    evaluation.setLanguage(dto.getLanguage());
-    evaluation.setLinesOfCode(dto.getLinesOfCode());
-    evaluation.setComplexity(dto.getComplexity());
-    evaluation.setHasTests(dto.getHasTests());
-    evaluation.setUsesGit(dto.getUsesGit());
-    evaluation.setAnalyzedBy(dto.getAnalyzedBy());
-    evaluation.setScore(score);
-    evaluation.setClassification(classification.name());
+                applyDescription(evaluation, dto, score, classification);
 
-    if (dto.getDescription() != null && !dto.getDescription().trim().isEmpty()) {
-        evaluation.setDescription(dto.getDescription());
-    } else {
-        evaluation.setDescription(
-                descriptionGeneratorService.generate(dto, score, classification)
-        );
-    }
+                Evaluation updated = evaluationRepository.save(evaluation);
+                requestDescriptionIfPending(updated, dto, user);
 
-    Evaluation updated = evaluationRepository.save(evaluation);
+                EvaluationSnapshot after = EvaluationSnapshot.of(updated);
+                summaryService.applyDelta(user.getId(), before, after);
+                userCacheKeys.invalidate(user.getId());
+                if (!Objects.equals(previousName, updated.getProjectName())) {
+                    projectNameIndex.add(user.getId(), updated.getProjectName());
+                    projectNameIndex.remove(user.getId(), previousName);
+                }
+                eventPublisher.publishEvent(new EvaluationChangedEvent(user.getId(), AuthenticatedUser.current().getEmail(), before, after));
 
-    Counter.builder("business.evaluations.updated")
-            .tag("classification", classification.name())
-            .register(meterRegistry)
-            .increment();
+                metrics.updated(classification, after.getLanguage());
 
-    return toResponseDTO(updated);
+                return EvaluationMapper.toResponseDTO(updated);
+            });
+        });
     }
 
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "evaluations", allEntries = true),
-        @CacheEvict(value = "evaluation", key = "#id + '-' + T(org.springframework.security.core.context.SecurityContextHolder).getContext().authentication.name"),
-        @CacheEvict(value = "evaluationStats", allEntries = true)
-    })
+    @Transactional
     public void delete(Long id) {
+        metrics.record(Operation.DELETE, () -> {
+            User user = getAuthenticatedUser();
 
-    User user = getAuthenticatedUser();
+            Evaluation evaluation = evaluationRepository
+                    .findByIdAndUser(id, user)
+                    .orElseThrow(this::notFound);
 
-    Evaluation evaluation = evaluationRepository
-            .findByIdAndUser(id, user)
-            .orElseThrow(() ->
-                    new ResourceNotFoundException("Avaliação não encontrada"));
+            EvaluationSnapshot before = EvaluationSnapshot.of(evaluation);
 
-    evaluationRepository.delete(evaluation);
+            evaluationRepository.delete(evaluation);
 
-    Counter.builder("business.evaluations.deleted")
-            .register(meterRegistry)
-            .increment();
+            summaryService.applyDelta(user.getId(), before, null);
+            userCacheKeys.invalidate(user.getId());
+            projectNameIndex.remove(user.getId(), evaluation.getProjectName());
+            eventPublisher.publishEvent(new EvaluationChangedEvent(user.getId(), AuthenticatedUser.current().getEmail(), before, null));
 
-    log.info("Avaliação {} deletada pelo usuário {}", id, user.getEmail());
+            metrics.deleted();
+
+            log.info("Avaliação {} deletada pelo usuário {}", id, AuthenticatedUser.current().getEmail());
+        });
     }
     
 
     @Override
-@Cacheable(value = "dashboardSummary",
-        key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().authentication.name")
+@Cacheable(value = CacheConfig.DASHBOARD_SUMMARY, key = "@userCacheKeys.of('dashboard')")
 public DashboardSummaryDTO getDashboardSummary() {
 
-    User user = getAuthenticatedUser();
-
-    List<Evaluation> evaluations =
-            evaluationRepository.findAllByUser(user);
-
-    long total = evaluations.size();
-
-    double average = evaluations.stream()
-            .mapToInt(Evaluation::getScore)
-            .average()
-            .orElse(0.0);
-
-    long excellent = evaluations.stream()
-            .filter(e -> "EXCELENTE".equalsIgnoreCase(e.getClassification()))
-            .count();
-
-    long good = evaluations.stream()
-            .filter(e -> "BOM".equalsIgnoreCase(e.getClassification()))
-            .count();
-
-    long regular = evaluations.stream()
-            .filter(e -> "REGULAR".equalsIgnoreCase(e.getClassification()))
-            .count();
-
-    long bad = evaluations.stream()
-            .filter(e -> "RUIM".equalsIgnoreCase(e.getClassification()))
-            .count();
-
-    Map<String, Long> byLanguage =
-            evaluations.stream()
-                    .collect(Collectors.groupingBy(
-                            e -> e.getLanguage().name(),
-                            Collectors.counting()
-                    ));
-
-    Map<LocalDate, Double> scoreEvolution =
-            evaluations.stream()
-                    .collect(Collectors.groupingBy(
-                            e -> e.getCreatedAt().toLocalDate(),
-                            Collectors.averagingInt(Evaluation::getScore)
-                    ));
-
-    double testsPercentage =
-            total == 0 ? 0 :
-            (evaluations.stream().filter(Evaluation::isHasTests).count() * 100.0) / total;
-
-    double gitPercentage =
-            total == 0 ? 0 :
-            (evaluations.stream().filter(Evaluation::isUsesGit).count() * 100.0) / total;
-
-    return new DashboardSummaryDTO(
-            total,
-            excellent,
-            good,
-            regular,
-            bad,
-            average,
-            byLanguage,
-            scoreEvolution,
-            testsPercentage,
-            gitPercentage
-    );
+    Long userId = AuthenticatedUser.current().getId();
+    return dashboardFlight.execute(userCacheKeys.of("dashboard"), () -> summaryService.getDashboardSummary(userId));
 }
 
     // REGRAS DE NEGÓCIO
 
+private ResourceNotFoundException notFound() {
+    metrics.notFound();
+    return new ResourceNotFoundException("Avaliação não encontrada");
+}
+
 private void validateFilter(EvaluationFilterDTO filter) {
 
     if (filter.getStartDate() != null &&
@@ -390,114 +614,106 @@ private void validateFilter(EvaluationFilterDTO filter) {
     }
 }
 
-private int calculateScore(EvaluationRequestDTO dto) {
-
-    int score = 0;
+private String validateBatchItem(EvaluationRequestDTO dto) {
 
-  
-    switch (dto.getLanguage()) {
-        case JAVA, CSHARP, RUST -> score += 18;
-        case CPP, GO, KOTLIN -> score += 16;
-        case PYTHON, TYPESCRIPT, SWIFT -> score += 14;
-        case JAVASCRIPT -> score += 12;
-        case C -> score += 13;
-        case PHP, RUBY, DART -> score += 10;
-        case OTHER -> score += 8;
+    if (dto == null) {
+        return "Avaliação ausente";
     }
 
-   
-    int lines = dto.getLinesOfCode();
-
-    if (lines <= 100) score += 5;
-    else if (lines <= 500) score += 18;
-    else if (lines <= 1000) score += 15;
-    else if (lines <= 5000) score += 10;
-    else score += 5;
-
-  
-    switch (dto.getComplexity()) {
-        case 1 -> score += 20;
-        case 2 -> score += 15;
-        case 3 -> score += 8;
-        case 4 -> score -= 10;
-        case 5 -> score -= 20;
-    }
+    Set<ConstraintViolation<EvaluationRequestDTO>> violations = validator.validate(dto);
 
-  
-    if (Boolean.TRUE.equals(dto.getHasTests()))
-        score += 20;
-    else
-        score -= 10;
+    if (violations.isEmpty()) {
+        return null;
+    }
 
-   
-    if (Boolean.TRUE.equals(dto.getUsesGit()))
-        score += 8;
-    else
-        score -= 5;
+    return violations.stream()
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+}
 
-    
-    score += simulateCodeQuality(dto.getProjectName(), dto.getLanguage());
+private Evaluation newEvaluation(EvaluationRequestDTO dto, User user) {
 
-    
-    if (score > 100) return 100;
-    if (score < 0) return 0;
+    int score = EvaluationScoring.calculateScore(dto);
+    Classification classification = EvaluationScoring.classify(score);
 
-    return score;
-}
+    Evaluation evaluation = new Evaluation();
+    evaluation.setProjectName(dto.getProjectName());
+    evaluation.setLanguage(dto.getLanguage());
+    evaluation.setScore(score);
+    evaluation.setClassification(classification);
+    evaluation.setAnalyzedBy(dto.getAnalyzedBy());
+    evaluation.setCreatedAt(LocalDateTime.now());
+    evaluation.setHasTests(dto.getHasTests());
+    evaluation.setUsesGit(dto.getUsesGit());
+    evaluation.setLinesOfCode(dto.getLinesOfCode());
+    evaluation.setComplexity(dto.getComplexity());
 
-private int simulateCodeQuality(String projectName, Language language) {
+    applyDescription(evaluation, dto, score, classification);
 
-    int qualityScore = 0;
+    evaluation.setUser(user);
 
-    int nameLength = projectName.length();
+    return evaluation;
+}
 
-    if (nameLength <= 10) qualityScore += 3;
-    else if (nameLength <= 20) qualityScore += 6;
-    else qualityScore += 8;
+private void applyDescription(
+        Evaluation evaluation,
+        EvaluationRequestDTO dto,
+        int score,
+        Classification classification
+) {
 
-    switch (language) {
-        case JAVA, CSHARP, RUST -> qualityScore += 6;
-        case CPP, GO -> qualityScore += 5;
-        case PYTHON, TYPESCRIPT, KOTLIN, SWIFT -> qualityScore += 4;
-        default -> qualityScore += 3;
+    if (dto.getDescription() != null && !dto.getDescription().trim().isEmpty()) {
+        evaluation.setDescription(dto.getDescription());
+        evaluation.setDescriptionTemplate(null);
+        evaluation.setDescriptionStatus(DescriptionStatus.READY);
+    } else if (deferredDescriptions) {
+        evaluation.setDescription(null);
+        evaluation.setDescriptionTemplate(null);
+        evaluation.setDescriptionStatus(DescriptionStatus.PENDING);
+    } else {
+        // Gerador por template: grava só o código, o texto é montado na leitura
+        Integer template = descriptionGeneratorService.template(dto, score, classification);
+        evaluation.setDescriptionTemplate(template);
+        evaluation.setDescription(
+                template == null ? descriptionGeneratorService.generate(dto, score, classification) : null
+        );
+        evaluation.setDescriptionStatus(DescriptionStatus.READY);
     }
-
-    int variation = Math.abs(projectName.hashCode() % 5);
-    qualityScore += variation;
-
-    return qualityScore;
 }
 
-private Classification classify(int score) {
+private void requestDescriptionIfPending(Evaluation evaluation, EvaluationRequestDTO dto, User user) {
 
-    if (score >= 85) return Classification.EXCELENTE;
-    if (score >= 70) return Classification.BOM;
-    if (score >= 50) return Classification.REGULAR;
+    if (evaluation.getDescriptionStatus() != DescriptionStatus.PENDING) {
+        return;
+    }
 
-    return Classification.RUIM;
+    eventPublisher.publishEvent(new DescriptionRequestedEvent(
+            evaluation.getId(),
+            user.getId(),
+            dto,
+            evaluation.getScore(),
+            evaluation.getClassification()
+    ));
 }
 
+private Sort resolveSort(Sort requested) {
 
-private EvaluationResponseDTO toResponseDTO(Evaluation evaluation) {
-
-    EvaluationResponseDTO dto = new EvaluationResponseDTO();
+    if (requested.isUnsorted()) {
+        return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    }
 
-    dto.setId(evaluation.getId());
-    dto.setProjectName(evaluation.getProjectName());
-    dto.setLanguage(evaluation.getLanguage());
-    dto.setScore(evaluation.getScore());
-    dto.setClassification(
-            Classification.valueOf(evaluation.getClassification())
-    );
-    dto.setAnalyzedBy(evaluation.getAnalyzedBy());
-    dto.setCreatedAt(evaluation.getCreatedAt());
+    for (Sort.Order order : requested) {
+        if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+            throw new BadRequestException(
+                    "Campo de ordenação inválido: " + order.getProperty()
+            );
+        }
+    }
 
-    dto.setHasTests(evaluation.isHasTests());
-    dto.setUsesGit(evaluation.isUsesGit());
-    
-    dto.setLinesOfCode(evaluation.getLinesOfCode());
-    dto.setComplexity(evaluation.getComplexity());
-    dto.setDescription(evaluation.getDescription());
-    return dto;
+    // Desempate por id para que a paginação seja estável entre requisições
+    return requested.getOrderFor("id") != null
+            ? requested
+            : requested.and(Sort.by(Sort.Order.desc("id")));
 }
 }
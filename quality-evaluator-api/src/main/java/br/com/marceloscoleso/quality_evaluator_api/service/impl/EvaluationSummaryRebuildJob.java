@@ -0,0 +1,40 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Cria os resumos que ainda não existem para avaliações gravadas antes da tabela de resumo
+@Component
+@ConditionalOnProperty(name = "app.summary.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+public class EvaluationSummaryRebuildJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EvaluationSummaryRebuildJob.class);
+
+    private final EvaluationSummaryService summaryService;
+
+    public EvaluationSummaryRebuildJob(EvaluationSummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        List<Long> userIds = summaryService.findUsersWithoutSummary();
+
+        for (Long userId : userIds) {
+            summaryService.rebuild(userId);
+        }
+
+        if (!userIds.isEmpty()) {
+            log.info("Resumos de avaliações reconstruídos para {} usuários", userIds.size());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardDeltaDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationStatsDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DailyScore;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSummary;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationSpecifications;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationSummaryRepository;
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+
+import jakarta.persistence.Tuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Service
+public class EvaluationSummaryServiceImpl implements EvaluationSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(EvaluationSummaryServiceImpl.class);
+
+    // Colunas que o resumo usa; a reconstrução lê projeções, sem entidades no contexto de persistência
+    private static final Set<EvaluationField> COLUMNS = Collections.unmodifiableSet(EnumSet.of(
+            EvaluationField.ID,
+            EvaluationField.LANGUAGE,
+            EvaluationField.CLASSIFICATION,
+            EvaluationField.SCORE,
+            EvaluationField.HAS_TESTS,
+            EvaluationField.USES_GIT,
+            EvaluationField.LINES_OF_CODE,
+            EvaluationField.COMPLEXITY,
+            EvaluationField.CREATED_AT
+    ));
+
+    private final EvaluationSummaryRepository summaryRepository;
+    private final EvaluationRepository evaluationRepository;
+    private final UserRepository userRepository;
+    private final int rebuildFetchSize;
+
+    public EvaluationSummaryServiceImpl(
+            EvaluationSummaryRepository summaryRepository,
+            EvaluationRepository evaluationRepository,
+            UserRepository userRepository,
+            @Value("${app.export.fetch-size:500}") int rebuildFetchSize
+    ) {
+        this.summaryRepository = summaryRepository;
+        this.evaluationRepository = evaluationRepository;
+        this.userRepository = userRepository;
+        this.rebuildFetchSize = rebuildFetchSize;
+    }
+
+    // Deve ser chamado depois que a escrita da avaliação foi feita, na mesma transação
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelta(Long userId, EvaluationSnapshot before, EvaluationSnapshot after) {
+
+        Optional<EvaluationSummary> locked = lockOrRebuild(userId);
+
+        if (locked.isEmpty()) {
+            // Sem resumo ainda: a reconstrução já enxerga a escrita pendente desta transação
+            return;
+        }
+
+        EvaluationSummary summary = locked.get();
+
+        if (before != null) summary.apply(before, -1);
+        if (after != null) summary.apply(after, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCreated(Long userId, List<EvaluationSnapshot> created) {
+
+        Optional<EvaluationSummary> locked = lockOrRebuild(userId);
+
+        if (locked.isEmpty()) {
+            return;
+        }
+
+        for (EvaluationSnapshot evaluation : created) {
+            locked.get().apply(evaluation, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public EvaluationStatsDTO getStats(Long userId) {
+
+        EvaluationSummary summary = findOrRebuild(userId);
+
+        return new EvaluationStatsDTO(
+                summary.getTotal(),
+                Math.round(summary.getAverageScore()),
+                summary.getExcellentCount()
+        );
+    }
+
+    @Override
+    @Transactional
+    public DashboardSummaryDTO getDashboardSummary(Long userId) {
+
+        EvaluationSummary summary = findOrRebuild(userId);
+        long total = summary.getTotal();
+
+        Map<String, Long> byLanguage = new HashMap<>();
+        for (Map.Entry<Language, Long> entry : summary.getLanguageCounts().entrySet()) {
+            byLanguage.put(entry.getKey().name(), entry.getValue());
+        }
+
+        Map<LocalDate, Double> scoreEvolution = new TreeMap<>();
+        for (Map.Entry<LocalDate, DailyScore> entry : summary.getDailyScores().entrySet()) {
+            scoreEvolution.put(entry.getKey(), entry.getValue().getAverage());
+        }
+
+        return new DashboardSummaryDTO(
+                total,
+                summary.getExcellentCount(),
+                summary.getGoodCount(),
+                summary.getRegularCount(),
+                summary.getBadCount(),
+                summary.getAverageScore(),
+                byLanguage,
+                scoreEvolution,
+                total == 0 ? 0 : (summary.getTestsCount() * 100.0) / total,
+                total == 0 ? 0 : (summary.getGitCount() * 100.0) / total
+        );
+    }
+
+    @Override
+    @Transactional
+    public DashboardDeltaDTO getDashboardDelta(
+            Long userId,
+            Set<Classification> classifications,
+            Set<Language> languages,
+            Set<LocalDate> days
+    ) {
+
+        EvaluationSummary summary = findOrRebuild(userId);
+        long total = summary.getTotal();
+
+        Map<String, Long> classificationCounts = new HashMap<>();
+        for (Classification classification : classifications) {
+            classificationCounts.put(classification.name(), switch (classification) {
+                case EXCELENTE -> summary.getExcellentCount();
+                case BOM -> summary.getGoodCount();
+                case REGULAR -> summary.getRegularCount();
+                case RUIM -> summary.getBadCount();
+            });
+        }
+
+        Map<String, Long> byLanguage = new HashMap<>();
+        for (Language language : languages) {
+            byLanguage.put(language.name(), summary.getLanguageCounts().getOrDefault(language, 0L));
+        }
+
+        Map<LocalDate, Double> scoreEvolution = new TreeMap<>();
+        for (LocalDate day : days) {
+            DailyScore score = summary.getDailyScores().get(day);
+            scoreEvolution.put(day, score == null ? null : score.getAverage());
+        }
+
+        return new DashboardDeltaDTO(
+                total,
+                summary.getAverageScore(),
+                total == 0 ? 0 : (summary.getTestsCount() * 100.0) / total,
+                total == 0 ? 0 : (summary.getGitCount() * 100.0) / total,
+                classificationCounts,
+                byLanguage,
+                scoreEvolution
+        );
+    }
+
+    @Override
+    @Transactional
+    public void createEmpty(Long userId) {
+        if (!summaryRepository.existsById(userId)) {
+            summaryRepository.save(new EvaluationSummary(userId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long userId) {
+        if (summaryRepository.existsById(userId)) {
+            summaryRepository.deleteById(userId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long userId) {
+
+        EvaluationSummary summary = new EvaluationSummary(userId);
+
+        try (Stream<Tuple> rows = evaluationRepository.streamRows(
+                EvaluationSpecifications.belongsTo(userRepository.getReferenceById(userId)),
+                Sort.unsorted(),
+                COLUMNS,
+                rebuildFetchSize
+        )) {
+            rows.forEach(row -> summary.apply(new EvaluationSnapshot(
+                    row.get(EvaluationField.ID.getProperty(), Long.class),
+                    row.get(EvaluationField.LANGUAGE.getProperty(), Language.class),
+                    row.get(EvaluationField.CLASSIFICATION.getProperty(), Classification.class),
+                    row.get(EvaluationField.SCORE.getProperty(), Integer.class),
+                    row.get(EvaluationField.HAS_TESTS.getProperty(), Boolean.class),
+                    row.get(EvaluationField.USES_GIT.getProperty(), Boolean.class),
+                    row.get(EvaluationField.LINES_OF_CODE.getProperty(), Integer.class),
+                    row.get(EvaluationField.COMPLEXITY.getProperty(), Integer.class),
+                    row.get(EvaluationField.CREATED_AT.getProperty(), LocalDateTime.class).toLocalDate()
+            ), 1));
+        }
+
+        summaryRepository.findById(userId).ifPresent(existing -> {
+            summaryRepository.delete(existing);
+            summaryRepository.flush();
+        });
+        summaryRepository.save(summary);
+
+        log.debug("Resumo de avaliações reconstruído para o usuário {} ({} avaliações)",
+                userId, summary.getTotal());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findUsersWithoutSummary() {
+        return summaryRepository.findUserIdsWithoutSummary();
+    }
+
+    private EvaluationSummary findOrRebuild(Long userId) {
+        return summaryRepository.findById(userId).orElseGet(() -> {
+            lockOrRebuild(userId);
+            return summaryRepository.findById(userId).orElseThrow();
+        });
+    }
+
+    // A trava é a linha do usuário, não a do resumo: sem resumo o "for update" não trava nada e
+    // escritas simultâneas (ou uma leitura preguiçosa) reconstruiriam em paralelo, colidindo na chave
+    // primária. Toda escrita já atualiza users.data_version, então travar essa linha primeiro mantém
+    // uma ordem única entre usuário e resumo. Vazio: o resumo acabou de ser reconstruído.
+    private Optional<EvaluationSummary> lockOrRebuild(Long userId) {
+
+        userRepository.lockById(userId);
+
+        Optional<EvaluationSummary> locked = summaryRepository.findForUpdate(userId);
+        if (locked.isPresent()) {
+            return locked;
+        }
+
+        rebuild(userId);
+        return Optional.empty();
+    }
+}
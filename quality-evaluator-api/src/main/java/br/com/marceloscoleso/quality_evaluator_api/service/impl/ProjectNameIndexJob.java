@@ -0,0 +1,34 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.service.ProjectNameIndexService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Indexa os nomes de projeto de avaliações gravadas antes da tabela de trigramas
+@Component
+@ConditionalOnProperty(name = "app.search.index-on-startup", havingValue = "true", matchIfMissing = true)
+public class ProjectNameIndexJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectNameIndexJob.class);
+
+    private final ProjectNameIndexService projectNameIndex;
+
+    public ProjectNameIndexJob(ProjectNameIndexService projectNameIndex) {
+        this.projectNameIndex = projectNameIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        int indexed = projectNameIndex.indexMissing();
+
+        if (indexed > 0) {
+            log.info("Nomes de projeto indexados para busca: {}", indexed);
+        }
+    }
+}
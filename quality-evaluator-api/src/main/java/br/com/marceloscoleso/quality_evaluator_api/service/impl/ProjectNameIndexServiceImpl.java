@@ -0,0 +1,96 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.ProjectNameTrigram;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.repository.ProjectNameTrigramRepository;
+import br.com.marceloscoleso.quality_evaluator_api.service.ProjectNameIndexService;
+import br.com.marceloscoleso.quality_evaluator_api.util.ProjectNameTrigrams;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class ProjectNameIndexServiceImpl implements ProjectNameIndexService {
+
+    private final ProjectNameTrigramRepository trigramRepository;
+    private final EvaluationRepository evaluationRepository;
+
+    public ProjectNameIndexServiceImpl(
+            ProjectNameTrigramRepository trigramRepository,
+            EvaluationRepository evaluationRepository
+    ) {
+        this.trigramRepository = trigramRepository;
+        this.evaluationRepository = evaluationRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> candidates(Long userId, String text) {
+
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        Set<String> trigrams = ProjectNameTrigrams.ofQuery(text);
+        if (trigrams.isEmpty()) {
+            return null;
+        }
+
+        return trigramRepository.findNamesWithAll(userId, trigrams, trigrams.size());
+    }
+
+    // Chamado depois de summaryService.applyDelta/applyCreated: o lock do resumo serializa as
+    // escritas do usuário, então a verificação e a inserção não disputam o mesmo nome
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long userId, String projectName) {
+
+        if (projectName == null || trigramRepository.existsByUserIdAndProjectName(userId, projectName)) {
+            return;
+        }
+
+        trigramRepository.saveAll(ProjectNameTrigrams.of(projectName).stream()
+                .map(trigram -> new ProjectNameTrigram(userId, trigram, projectName))
+                .toList());
+    }
+
+    // Só sai do índice quando nenhuma avaliação do usuário usa mais o nome
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long userId, String projectName) {
+
+        if (projectName == null || evaluationRepository.existsByUserIdAndProjectName(userId, projectName)) {
+            return;
+        }
+
+        trigramRepository.deleteName(userId, projectName);
+    }
+
+    @Override
+    @Transactional
+    public void deleteUser(Long userId) {
+        trigramRepository.deleteUser(userId);
+    }
+
+    @Override
+    @Transactional
+    public int indexMissing() {
+
+        List<Object[]> names = trigramRepository.findUnindexedNames();
+
+        for (Object[] name : names) {
+            Long userId = ((Number) name[0]).longValue();
+            String projectName = (String) name[1];
+
+            trigramRepository.saveAll(ProjectNameTrigrams.of(projectName).stream()
+                    .map(trigram -> new ProjectNameTrigram(userId, trigram, projectName))
+                    .toList());
+        }
+
+        return names.size();
+    }
+}
@@ -1,30 +1,47 @@
 package br.com.marceloscoleso.quality_evaluator_api.service.impl;
 
+import br.com.marceloscoleso.quality_evaluator_api.config.UserCacheKeys;
 import br.com.marceloscoleso.quality_evaluator_api.dto.UserRequestDTO;
 import br.com.marceloscoleso.quality_evaluator_api.dto.UserResponseDTO;
 import br.com.marceloscoleso.quality_evaluator_api.model.User;
 import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
 import br.com.marceloscoleso.quality_evaluator_api.security.JwtService;
+import br.com.marceloscoleso.quality_evaluator_api.security.PasswordHasher;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationAnalyticsService;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+import br.com.marceloscoleso.quality_evaluator_api.service.ProjectNameIndexService;
 import br.com.marceloscoleso.quality_evaluator_api.service.UserService;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final EvaluationSummaryService summaryService;
+    private final ProjectNameIndexService projectNameIndex;
+    private final EvaluationAnalyticsService analyticsService;
+    private final UserCacheKeys userCacheKeys;
 
     public UserServiceImpl(UserRepository userRepository,
-                           PasswordEncoder passwordEncoder,
-                           JwtService jwtService) {
+                           PasswordHasher passwordHasher,
+                           JwtService jwtService,
+                           EvaluationSummaryService summaryService,
+                           ProjectNameIndexService projectNameIndex,
+                           EvaluationAnalyticsService analyticsService,
+                           UserCacheKeys userCacheKeys) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
+        this.summaryService = summaryService;
+        this.projectNameIndex = projectNameIndex;
+        this.analyticsService = analyticsService;
+        this.userCacheKeys = userCacheKeys;
     }
 
     @Override
@@ -37,10 +54,12 @@ public class UserServiceImpl implements UserService {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
 
         User savedUser = userRepository.save(user);
 
+        summaryService.createEmpty(savedUser.getId());
+
         UserResponseDTO response = new UserResponseDTO();
         response.setId(savedUser.getId());
         response.setName(savedUser.getName());
@@ -51,16 +70,24 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public String login(String email, String password) {
+    public CompletableFuture<String> login(String email, String password) {
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("Credenciais inválidas");
-        }
+        // A thread da requisição é liberada enquanto o BCrypt roda no pool de hash
+        return passwordHasher.submit(() -> {
+
+            if (!passwordHasher.matches(password, user.getPassword())) {
+                throw new RuntimeException("Credenciais inválidas");
+            }
+
+            if (passwordHasher.needsRehash(user.getPassword())) {
+                userRepository.updatePassword(user.getId(), passwordHasher.encode(password));
+            }
 
-        return jwtService.generateToken(user.getEmail());
+            return jwtService.generateToken(user);
+        });
     }
 
     @Override
@@ -84,5 +111,9 @@ public class UserServiceImpl implements UserService {
         throw new RuntimeException("Usuário não encontrado");
     }
     userRepository.deleteById(id);
+    summaryService.delete(id);
+    projectNameIndex.deleteUser(id);
+    analyticsService.evict(id);
+    userCacheKeys.forget(id);
     }
 }
@@ -0,0 +1,229 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import br.com.marceloscoleso.quality_evaluator_api.exception.BadRequestException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Parâmetros de /analytics já validados: "groupBy=language,classification&metric=avg(score)&bucket=week"
+public final class AnalyticsQuery {
+
+    public static final int MAX_DIMENSIONS = 3;
+
+    private static final Pattern METRIC = Pattern.compile("(\\w+)\\s*\\(\\s*(\\w*)\\s*\\)");
+
+    public enum Dimension {
+
+        LANGUAGE("language"),
+        CLASSIFICATION("classification"),
+        HAS_TESTS("hasTests"),
+        USES_GIT("usesGit"),
+        COMPLEXITY("complexity"),
+        LINES_OF_CODE("linesOfCode"),
+        CREATED_AT("createdAt");
+
+        private final String property;
+
+        Dimension(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        static Dimension fromProperty(String property) {
+            for (Dimension dimension : values()) {
+                if (dimension.property.equals(property)) {
+                    return dimension;
+                }
+            }
+            return null;
+        }
+    }
+
+    public enum Function {
+        COUNT, SUM, AVG, MIN, MAX
+    }
+
+    public enum Measure {
+
+        SCORE("score"),
+        COMPLEXITY("complexity"),
+        LINES_OF_CODE("linesOfCode");
+
+        private final String property;
+
+        Measure(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+    }
+
+    // Período de createdAt; cada grupo é identificado pelo primeiro dia do período
+    public enum Bucket {
+
+        DAY, WEEK, MONTH, YEAR;
+
+        public LocalDate startOf(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+                case YEAR -> date.withDayOfYear(1);
+            };
+        }
+    }
+
+    private final List<Dimension> dimensions;
+    private final Function function;
+    private final Measure measure;
+    private final Bucket bucket;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private AnalyticsQuery(
+            List<Dimension> dimensions,
+            Function function,
+            Measure measure,
+            Bucket bucket,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        this.dimensions = dimensions;
+        this.function = function;
+        this.measure = measure;
+        this.bucket = bucket;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // "bucket" sem createdAt no groupBy agrupa também pelo período, como última dimensão
+    public static AnalyticsQuery parse(
+            String groupBy,
+            String metric,
+            String bucket,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        List<Dimension> dimensions = parseDimensions(groupBy);
+        Bucket parsedBucket = parseBucket(bucket);
+
+        if (parsedBucket != null && !dimensions.contains(Dimension.CREATED_AT)) {
+            dimensions.add(Dimension.CREATED_AT);
+        }
+        if (parsedBucket == null && dimensions.contains(Dimension.CREATED_AT)) {
+            parsedBucket = Bucket.DAY;
+        }
+        if (dimensions.size() > MAX_DIMENSIONS) {
+            throw new BadRequestException("Agrupe por no máximo " + MAX_DIMENSIONS + " dimensões");
+        }
+
+        String normalized = metric == null || metric.isBlank() ? "count" : metric.trim();
+        if (normalized.equalsIgnoreCase("count")) {
+            return new AnalyticsQuery(List.copyOf(dimensions), Function.COUNT, null, parsedBucket, startDate, endDate);
+        }
+
+        Matcher matcher = METRIC.matcher(normalized);
+        if (!matcher.matches()) {
+            throw invalidMetric(normalized);
+        }
+
+        Function function = parseFunction(matcher.group(1), normalized);
+        Measure measure = null;
+
+        if (function != Function.COUNT) {
+            measure = parseMeasure(matcher.group(2), normalized);
+        } else if (!matcher.group(2).isEmpty()) {
+            throw invalidMetric(normalized);
+        }
+
+        return new AnalyticsQuery(List.copyOf(dimensions), function, measure, parsedBucket, startDate, endDate);
+    }
+
+    // Forma canônica da métrica, devolvida na resposta
+    public String metricName() {
+        return function == Function.COUNT
+                ? "count"
+                : function.name().toLowerCase(Locale.ROOT) + "(" + measure.getProperty() + ")";
+    }
+
+    public List<Dimension> getDimensions() { return dimensions; }
+    public Function getFunction() { return function; }
+    public Measure getMeasure() { return measure; }
+    public Bucket getBucket() { return bucket; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+
+    private static List<Dimension> parseDimensions(String groupBy) {
+
+        List<Dimension> dimensions = new ArrayList<>();
+
+        if (groupBy == null || groupBy.isBlank()) {
+            return dimensions;
+        }
+
+        for (String name : groupBy.split(",")) {
+
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+
+            Dimension dimension = Dimension.fromProperty(property);
+            if (dimension == null) {
+                throw new BadRequestException("Campo inválido em groupBy: " + property);
+            }
+            if (dimensions.contains(dimension)) {
+                throw new BadRequestException("Campo repetido em groupBy: " + property);
+            }
+            dimensions.add(dimension);
+        }
+
+        return dimensions;
+    }
+
+    private static Bucket parseBucket(String bucket) {
+
+        if (bucket == null || bucket.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Bucket.valueOf(bucket.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Período inválido em bucket: " + bucket + " (use day, week, month ou year)");
+        }
+    }
+
+    private static Function parseFunction(String name, String metric) {
+        try {
+            return Function.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalidMetric(metric);
+        }
+    }
+
+    private static Measure parseMeasure(String property, String metric) {
+        for (Measure measure : Measure.values()) {
+            if (measure.property.equals(property)) {
+                return measure;
+            }
+        }
+        throw invalidMetric(metric);
+    }
+
+    private static BadRequestException invalidMetric(String metric) {
+        return new BadRequestException("Métrica inválida: " + metric
+                + " (use count ou sum, avg, min, max de score, complexity ou linesOfCode)");
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Abre após N falhas consecutivas. Depois de "openFor" fica meio-aberto e deixa passar uma única
+// chamada de teste: quem ganha o CAS empurra openUntil adiante, então as demais continuam vendo o
+// circuito aberto. Sucesso fecha; falha reabre por mais "openFor".
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openForNanos;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntil = new AtomicLong(Long.MIN_VALUE);
+
+    public CircuitBreaker(int failureThreshold, Duration openFor) {
+        this(failureThreshold, openFor, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openFor, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openForNanos = openFor.toNanos();
+        this.clock = clock;
+    }
+
+    public boolean allowRequest() {
+
+        long until = openUntil.get();
+        if (until == Long.MIN_VALUE) {
+            return true;
+        }
+
+        long now = clock.getAsLong();
+        if (now - until < 0) {
+            return false;
+        }
+
+        // Meio-aberto: só uma chamada leva a vaga de teste
+        return openUntil.compareAndSet(until, now + openForNanos);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openUntil.set(Long.MIN_VALUE);
+    }
+
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil.set(clock.getAsLong() + openForNanos);
+        }
+    }
+
+    public State state() {
+        long until = openUntil.get();
+        if (until == Long.MIN_VALUE) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() - until < 0 ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -1,32 +1,125 @@
 package br.com.marceloscoleso.quality_evaluator_api.util;
 
 import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationExportRow;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class CsvExporterApi {
 
-    private static final DateTimeFormatter FORMATTER =
-            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final String HEADER = "Projeto,Linguagem,Nota,Classificacao,Data\n";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
 
     public static byte[] export(List<Evaluation> evaluations) {
 
-        StringBuilder csv = new StringBuilder();
-        csv.append("Projeto,Linguagem,Nota,Classificacao,Data\n");
-
-        for (Evaluation e : evaluations) {
-            csv.append(String.format(
-                    "%s,%s,%d,%s,%s%n",
-                    e.getProjectName(),
-                    e.getLanguage().getDisplayName(),
-                    e.getScore(),
-                    e.getClassification(),
-                    e.getCreatedAt().format(FORMATTER)
-            ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try {
+            write(evaluations.stream().map(EvaluationExportRow::of), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    // Escreve linha a linha no stream de saída; a memória usada não depende do total de linhas
+    public static long write(Stream<EvaluationExportRow> evaluations, OutputStream out) throws IOException {
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                BUFFER_SIZE
+        );
+
+        writer.write(HEADER);
+
+        long rows = 0;
+        Iterator<EvaluationExportRow> iterator = evaluations.iterator();
+
+        while (iterator.hasNext()) {
+            writeRow(writer, iterator.next());
+            rows++;
+        }
+
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeRow(Writer writer, EvaluationExportRow e) throws IOException {
+        writeField(writer, e.getProjectName());
+        writer.write(',');
+        writeField(writer, e.getLanguage().getDisplayName());
+        writer.write(',');
+        writer.write(Integer.toString(e.getScore()));
+        writer.write(',');
+        if (e.getClassification() != null) {
+            writer.write(e.getClassification().name());
         }
+        writer.write(',');
+        writeDate(writer, e.getCreatedAt());
+        writer.write('\n');
+    }
+
+    // RFC 4180: aspas apenas quando necessário, com aspas internas duplicadas
+    private static void writeField(Writer writer, String value) throws IOException {
+
+        if (value == null) {
+            return;
+        }
+
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // dd/MM/yyyy HH:mm sem DateTimeFormatter
+    private static void writeDate(Writer writer, LocalDateTime date) throws IOException {
+        writeTwoDigits(writer, date.getDayOfMonth());
+        writer.write('/');
+        writeTwoDigits(writer, date.getMonthValue());
+        writer.write('/');
+        writer.write(Integer.toString(date.getYear()));
+        writer.write(' ');
+        writeTwoDigits(writer, date.getHour());
+        writer.write(':');
+        writeTwoDigits(writer, date.getMinute());
+    }
 
-        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    private static void writeTwoDigits(Writer writer, int value) throws IOException {
+        writer.write((char) ('0' + value / 10));
+        writer.write((char) ('0' + value % 10));
     }
 }
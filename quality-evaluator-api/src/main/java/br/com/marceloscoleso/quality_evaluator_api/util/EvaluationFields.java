@@ -0,0 +1,61 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import br.com.marceloscoleso.quality_evaluator_api.exception.BadRequestException;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Parâmetro "fields=id,projectName,score" das listagens: o mesmo conjunto define as colunas
+// do SELECT e as propriedades que o Jackson escreve em EvaluationResponseDTO
+public final class EvaluationFields {
+
+    public static final String PARAMETER = "fields";
+    public static final String FILTER_ID = "evaluationFields";
+
+    // Sem "fields=" a resposta sai completa
+    public static final FilterProvider ALL = filters(SimpleBeanPropertyFilter.serializeAll());
+
+    private EvaluationFields() {
+    }
+
+    public static Set<EvaluationField> parse(String fields) {
+
+        if (fields == null || fields.isBlank()) {
+            return EvaluationField.ALL;
+        }
+
+        Set<EvaluationField> parsed = EnumSet.noneOf(EvaluationField.class);
+
+        for (String name : fields.split(",")) {
+
+            String property = name.trim();
+            if (property.isEmpty()) {
+                continue;
+            }
+
+            EvaluationField field = EvaluationField.fromProperty(property);
+            if (field == null) {
+                throw new BadRequestException("Campo inválido em fields: " + property);
+            }
+            parsed.add(field);
+        }
+
+        return parsed.isEmpty() ? EvaluationField.ALL : parsed;
+    }
+
+    public static FilterProvider only(Set<EvaluationField> fields) {
+        return filters(SimpleBeanPropertyFilter.filterOutAllExcept(
+                fields.stream().map(EvaluationField::getProperty).collect(Collectors.toSet())
+        ));
+    }
+
+    private static FilterProvider filters(SimpleBeanPropertyFilter filter) {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// Trigramas do nome do projeto em minúsculas, base da busca por trecho (contains) indexada
+public final class ProjectNameTrigrams {
+
+    public static final int SIZE = 3;
+
+    private ProjectNameTrigrams() {
+    }
+
+    // Termos gravados no índice; nomes mais curtos que um trigrama entram inteiros
+    public static Set<String> of(String projectName) {
+
+        String name = normalize(projectName);
+
+        if (name.isEmpty()) {
+            return Set.of();
+        }
+        if (name.length() < SIZE) {
+            return Set.of(name);
+        }
+
+        return grams(name);
+    }
+
+    // Termos da consulta; vazio quando o trecho é curto demais para usar o índice
+    public static Set<String> ofQuery(String text) {
+
+        String needle = normalize(text);
+
+        return needle.length() < SIZE ? Set.of() : grams(needle);
+    }
+
+    private static Set<String> grams(String value) {
+
+        Set<String> grams = new LinkedHashSet<>();
+
+        for (int i = 0; i + SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + SIZE));
+        }
+
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+ * Chamadas simultâneas com a mesma chave dividem uma única execução: a primeira calcula e
+ * as demais esperam o resultado dela (ou a mesma exceção). Nada fica guardado depois que a
+ * execução termina, então não há valor antigo; com chaves de UserCacheKeys, uma escrita muda
+ * a versão e as chamadas seguintes já não entram numa execução iniciada antes dela.
+ * A espera usa CompletableFuture, sem synchronized, e não prende threads virtuais.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String operation, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeoutNanos = timeout.toNanos();
+        this.leaders = counter(meterRegistry, operation, "leader");
+        this.coalesced = counter(meterRegistry, operation, "coalesced");
+        this.timeouts = counter(meterRegistry, operation, "timeout");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> computation) {
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+
+        if (running == null) {
+            leaders.increment();
+            return lead(key, mine, computation);
+        }
+
+        try {
+            T result = (T) running.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return result;
+
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+
+        } catch (TimeoutException e) {
+            // A execução em andamento passou do limite: esta chamada calcula por conta própria
+            timeouts.increment();
+            return computation.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return computation.get();
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private <T> T lead(Object key, CompletableFuture<Object> mine, Supplier<T> computation) {
+        try {
+            T result = computation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Counter.builder("business.singleflight.calls")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Template compilado uma única vez: trechos literais intercalados com posições de argumento (%s / %d)
+public final class TextTemplate {
+
+    private final String source;
+    private final String[] literals;
+    private final int literalLength;
+
+    private TextTemplate(String source, String[] literals) {
+        this.source = source;
+        this.literals = literals;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static TextTemplate compile(String source) {
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+
+            if (c == '%' && i + 1 < source.length()) {
+                char next = source.charAt(i + 1);
+
+                if (next == 's' || next == 'd') {
+                    literals.add(current.toString());
+                    current.setLength(0);
+                    i++;
+                    continue;
+                }
+
+                if (next == '%') {
+                    current.append('%');
+                    i++;
+                    continue;
+                }
+            }
+
+            current.append(c);
+        }
+
+        literals.add(current.toString());
+
+        return new TextTemplate(source, literals.toArray(String[]::new));
+    }
+
+    public int arguments() {
+        return literals.length - 1;
+    }
+
+    // Tamanho dos trechos fixos; usado para pré-dimensionar o StringBuilder
+    public int literalLength() {
+        return literalLength;
+    }
+
+    public StringBuilder appendTo(StringBuilder out) {
+        checkArguments(0);
+        return out.append(literals[0]);
+    }
+
+    public StringBuilder appendTo(StringBuilder out, Object first, Object second) {
+        checkArguments(2);
+        out.append(literals[0]);
+        out.append(first);
+        out.append(literals[1]);
+        out.append(second);
+        return out.append(literals[2]);
+    }
+
+    public StringBuilder appendTo(StringBuilder out, int first, int second) {
+        checkArguments(2);
+        out.append(literals[0]);
+        out.append(first);
+        out.append(literals[1]);
+        out.append(second);
+        return out.append(literals[2]);
+    }
+
+    public StringBuilder appendTo(StringBuilder out, int first, String second) {
+        checkArguments(2);
+        out.append(literals[0]);
+        out.append(first);
+        out.append(literals[1]);
+        out.append(second);
+        return out.append(literals[2]);
+    }
+
+    private void checkArguments(int count) {
+        if (arguments() != count) {
+            throw new IllegalArgumentException(
+                    "Template espera " + arguments() + " argumentos: " + source
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    // Threads virtuais só existem a partir do Java 21; em versões anteriores cai para threads de plataforma
+    public static ThreadFactory named(String prefix, boolean virtual) {
+
+        if (virtual && supportsVirtualThreads()) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+
+        return new CustomizableThreadFactory(prefix);
+    }
+
+    public static boolean supportsVirtualThreads() {
+        return Runtime.version().feature() >= 21;
+    }
+}
@@ -0,0 +1,229 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+
+/*
+ * Troca o texto das descrições geradas pelo código do template. Textos que não saíram dos
+ * templates (escritos pelo usuário) continuam como estão.
+ *
+ * Os trechos e a codificação abaixo são uma cópia congelada da versão 1 de DescriptionTemplates,
+ * e linguagem e classificação são lidas como o texto gravado nas colunas: a migração precisa
+ * reconhecer o que foi gravado antes dela mesmo depois que o código da aplicação mudar.
+ */
+public class V5__Encode_generated_descriptions extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V5__Encode_generated_descriptions.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT = """
+            select id, description, project_name, language, lines_of_code, complexity,
+                   has_tests, uses_git, score, classification
+            from evaluations
+            where description is not null and description_template is null""";
+
+    private static final String UPDATE = """
+            update evaluations set description_template = ?, description = null where id = ?""";
+
+    private static final int VERSION = 1;
+    private static final int BITS = 4;
+
+    private static final String[] INTROS = {
+            "O projeto \"%s\" desenvolvido em %s demonstra características técnicas interessantes. ",
+            "A aplicação \"%s\", construída com %s, apresenta uma proposta estrutural relevante. ",
+            "O sistema \"%s\" implementado utilizando %s revela decisões arquiteturais específicas. ",
+            "Analisando o projeto \"%s\" em %s, observam-se aspectos técnicos distintos. "
+    };
+
+    private static final String[] SIZES = {
+            "Com %d linhas de código e complexidade %d, ",
+            "Totalizando %d linhas e nível de complexidade %d, ",
+            "Estruturado em %d linhas com complexidade %d, "
+    };
+
+    private static final String[] WITH_TESTS = {
+            "conta com cobertura de testes automatizados, ",
+            "inclui validação por meio de testes, ",
+            "possui suporte a testes automatizados, "
+    };
+
+    private static final String[] WITHOUT_TESTS = {
+            "não apresenta evidências de testes automatizados, ",
+            "carece de cobertura de testes, ",
+            "não demonstra validação automatizada, "
+    };
+
+    private static final String[] WITH_GIT = {
+            "além de utilizar controle de versão com Git. ",
+            "mantendo versionamento estruturado com Git. ",
+            "fazendo uso adequado de controle de versão. "
+    };
+
+    private static final String[] WITHOUT_GIT = {
+            "e não evidencia práticas formais de versionamento. ",
+            "sem indicar uso estruturado de versionamento. ",
+            "o que pode impactar rastreabilidade e colaboração. "
+    };
+
+    private static final Map<String, String[]> QUALITY_ANALYSIS = Map.of(
+
+            "EXCELENTE", new String[]{
+                    "O conjunto de decisões técnicas indica alta maturidade arquitetural e alinhamento com boas práticas modernas. ",
+                    "A estrutura demonstra solidez, coesão e preocupação clara com qualidade e manutenção futura. ",
+                    "A implementação revela excelência técnica e forte aderência a princípios de engenharia de software. "
+            },
+
+            "BOM", new String[]{
+                    "A solução apresenta consistência estrutural e bom domínio técnico. ",
+                    "Observa-se uma base sólida, ainda que existam oportunidades pontuais de refinamento. ",
+                    "O projeto demonstra organização e qualidade satisfatória na maior parte dos aspectos avaliados. "
+            },
+
+            "REGULAR", new String[]{
+                    "Embora funcional, a implementação poderia evoluir em termos de organização e robustez. ",
+                    "Existem pontos estruturais que merecem revisão para elevar o padrão técnico. ",
+                    "A base é aceitável, porém há espaço considerável para melhorias arquiteturais. "
+            },
+
+            "RUIM", new String[]{
+                    "A estrutura atual evidencia fragilidades que comprometem a qualidade geral da solução. ",
+                    "São perceptíveis lacunas importantes em organização, padronização e boas práticas. ",
+                    "O projeto necessita de revisões estruturais significativas para atingir um nível técnico adequado. "
+            }
+    );
+
+    private static final Map<String, String> INTENSITY = Map.of(
+            "EXCELENTE", "desempenho excepcional",
+            "BOM", "bom desempenho técnico",
+            "REGULAR", "desempenho mediano",
+            "RUIM", "baixo desempenho técnico"
+    );
+
+    private static final String[] VERDICTS = {
+            "A pontuação final foi %d/100, refletindo um %s.",
+            "Com score %d/100, o projeto demonstra %s.",
+            "A avaliação consolidada atingiu %d/100, caracterizando um %s."
+    };
+
+    @Override
+    public void migrate(Context context) throws Exception {
+
+        Connection connection = context.getConnection();
+        long encoded = 0;
+        long kept = 0;
+
+        try (PreparedStatement select = connection.prepareStatement(SELECT);
+             PreparedStatement update = connection.prepareStatement(UPDATE)) {
+
+            select.setFetchSize(BATCH_SIZE);
+            int pending = 0;
+
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+
+                    Integer template = match(rows);
+                    if (template == null) {
+                        kept++;
+                        continue;
+                    }
+
+                    update.setInt(1, template);
+                    update.setLong(2, rows.getLong("id"));
+                    update.addBatch();
+                    encoded++;
+
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+
+        log.info("Descrições convertidas para template: {} (mantidas como texto: {})", encoded, kept);
+    }
+
+    private static Integer match(ResultSet row) throws Exception {
+        return match(
+                row.getString("description"),
+                row.getString("project_name"),
+                row.getString("language"),
+                row.getObject("lines_of_code", Integer.class),
+                row.getObject("complexity", Integer.class),
+                row.getBoolean("has_tests"),
+                row.getBoolean("uses_git"),
+                row.getInt("score"),
+                row.getString("classification")
+        );
+    }
+
+    // Código da versão 1 cujo texto é exatamente "text", ou null. Cada posição tem opções com
+    // inícios distintos, então basta comparar trecho a trecho.
+    static Integer match(
+            String text,
+            String projectName,
+            String language,
+            Integer linesOfCode,
+            Integer complexity,
+            boolean hasTests,
+            boolean usesGit,
+            int score,
+            String classification
+    ) {
+        String[] quality = QUALITY_ANALYSIS.get(classification);
+        if (text == null || language == null || quality == null) {
+            return null;
+        }
+
+        String[][] options = {
+                INTROS,
+                SIZES,
+                hasTests ? WITH_TESTS : WITHOUT_TESTS,
+                usesGit ? WITH_GIT : WITHOUT_GIT,
+                quality,
+                VERDICTS
+        };
+        Object[][] arguments = {
+                {projectName, language},
+                {linesOfCode, complexity},
+                {},
+                {},
+                {},
+                {score, INTENSITY.get(classification)}
+        };
+
+        int code = VERSION;
+        int offset = 0;
+
+        for (int position = 0; position < options.length; position++) {
+
+            int found = -1;
+            for (int option = 0; option < options[position].length && found < 0; option++) {
+                String fragment = options[position][option].formatted(arguments[position]);
+                if (text.startsWith(fragment, offset)) {
+                    found = option;
+                    offset += fragment.length();
+                }
+            }
+
+            if (found < 0) {
+                return null;
+            }
+            code = (code << BITS) | found;
+        }
+
+        return offset == text.length() ? code : null;
+    }
+}
@@ -0,0 +1,5 @@
+-- Ids de avaliação saem de uma sequence com alocação em blocos de 50: com IDENTITY o Hibernate não
+-- agrupa os INSERTs em lotes JDBC. A sequence continua depois do maior id já gravado.
+alter table evaluations alter column id drop identity;
+
+create sequence evaluation_seq start with (select coalesce(max(id), 0) + 1 from evaluations) increment by 50;
@@ -0,0 +1,5 @@
+-- Situação da descrição (geração em segundo plano). Avaliações anteriores já têm o texto gerado.
+alter table evaluations add column description_status varchar(255)
+    check (description_status in ('READY', 'PENDING'));
+
+update evaluations set description_status = 'READY';
@@ -0,0 +1,34 @@
+-- Resumo de estatísticas mantido a cada escrita. As tabelas começam vazias: o resumo de cada usuário
+-- é reconstruído das avaliações na subida (EvaluationSummaryRebuildJob) ou na primeira leitura.
+
+create table evaluation_summaries (
+    user_id bigint not null,
+    bad_count bigint not null,
+    excellent_count bigint not null,
+    git_count bigint not null,
+    good_count bigint not null,
+    regular_count bigint not null,
+    score_sum bigint not null,
+    tests_count bigint not null,
+    total bigint not null,
+    primary key (user_id)
+);
+
+create table evaluation_summary_languages (
+    user_id bigint not null,
+    evaluation_count bigint not null,
+    language varchar(255) not null check (language in ('JAVA', 'CSHARP', 'JAVASCRIPT', 'TYPESCRIPT', 'PYTHON',
+                                                       'KOTLIN', 'GO', 'PHP', 'RUBY', 'SWIFT', 'C', 'CPP', 'RUST',
+                                                       'DART', 'OTHER')),
+    primary key (user_id, language),
+    constraint fk_summary_languages_summary foreign key (user_id) references evaluation_summaries
+);
+
+create table evaluation_summary_days (
+    user_id bigint not null,
+    evaluation_count bigint not null,
+    score_sum bigint not null,
+    evaluation_date date not null,
+    primary key (user_id, evaluation_date),
+    constraint fk_summary_days_summary foreign key (user_id) references evaluation_summaries
+);
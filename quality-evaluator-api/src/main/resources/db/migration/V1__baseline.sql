@@ -0,0 +1,32 @@
+-- Esquema gerado pelo ddl-auto=update antes do Flyway, tal como estava. Bancos já existentes entram
+-- como baseline (spring.flyway.baseline-on-migrate) e recebem só as migrações seguintes.
+
+create table users (
+    id bigint generated by default as identity,
+    created_at timestamp(6) not null,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('USER', 'ADMIN')),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table evaluations (
+    id bigint generated by default as identity,
+    analyzed_by varchar(255),
+    classification varchar(255),
+    complexity integer,
+    created_at timestamp(6),
+    description clob,
+    has_tests boolean not null,
+    language varchar(255) check (language in ('JAVA', 'CSHARP', 'JAVASCRIPT', 'TYPESCRIPT', 'PYTHON', 'KOTLIN',
+                                              'GO', 'PHP', 'RUBY', 'SWIFT', 'C', 'CPP', 'RUST', 'DART', 'OTHER')),
+    lines_of_code integer,
+    project_name varchar(255),
+    score integer not null,
+    uses_git boolean not null,
+    user_id bigint not null,
+    primary key (id),
+    constraint fk_evaluations_user foreign key (user_id) references users
+);
@@ -0,0 +1,12 @@
+-- Índices compostos pelos caminhos de leitura: toda consulta de avaliações começa por user_id.
+
+-- Listagem, cursor, stream e export: (createdAt desc, id desc) sai do índice, sem ordenação em memória
+create index idx_evaluations_user_created on evaluations (user_id, created_at desc, id desc);
+
+-- Filtros por igualdade ou faixa combinados com o usuário
+create index idx_evaluations_user_language on evaluations (user_id, language);
+create index idx_evaluations_user_score on evaluations (user_id, score);
+create index idx_evaluations_user_classification on evaluations (user_id, classification);
+
+-- Reenfileiramento de descrições pendentes na subida (status = PENDING order by id)
+create index idx_evaluations_description_status on evaluations (description_status, id);
@@ -0,0 +1,14 @@
+-- Busca por trecho do nome do projeto: lista invertida trigrama -> nomes distintos do usuário.
+-- A consulta intersecta as listas dos trigramas do trecho e volta às avaliações por (user_id, project_name).
+create table project_name_trigrams (
+    user_id bigint not null,
+    trigram varchar(3) not null,
+    project_name varchar(255) not null,
+    primary key (user_id, trigram, project_name)
+);
+
+-- Manutenção (remover um nome) e verificação de nomes já indexados
+create index idx_project_name_trigrams_name on project_name_trigrams (user_id, project_name);
+
+-- Volta dos nomes candidatos para as avaliações do usuário
+create index idx_evaluations_user_project on evaluations (user_id, project_name);
@@ -0,0 +1,4 @@
+-- Descrições geradas por template passam a ser guardadas como código (versão + índices dos trechos).
+-- Os parâmetros já são colunas da avaliação; o texto é montado na leitura. A conversão das linhas
+-- existentes fica na V5 (migração Java, precisa reconhecer os trechos no texto).
+alter table evaluations add column description_template integer;
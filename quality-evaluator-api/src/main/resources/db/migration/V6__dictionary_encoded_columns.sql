@@ -0,0 +1,36 @@
+-- Colunas de baixa cardinalidade guardadas como código: linhas e índices menores, filtros comparando inteiros.
+
+-- Classificação: smallint com o código de Classification (RUIM=0, REGULAR=1, BOM=2, EXCELENTE=3)
+alter table evaluations add column classification_code smallint;
+
+update evaluations set classification_code = case classification
+    when 'RUIM' then 0
+    when 'REGULAR' then 1
+    when 'BOM' then 2
+    when 'EXCELENTE' then 3
+end;
+
+drop index idx_evaluations_user_classification;
+alter table evaluations drop column classification;
+alter table evaluations alter column classification_code rename to classification;
+create index idx_evaluations_user_classification on evaluations (user_id, classification);
+
+-- Quem analisou: dicionário de nomes, evaluations guarda só o id. Sem chave estrangeira: o dicionário
+-- nunca perde entradas e a FK custaria mais um índice em evaluations.
+create table analysts (
+    id integer generated by default as identity,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_analysts_name unique (name)
+);
+
+insert into analysts (name)
+select distinct analyzed_by from evaluations where analyzed_by is not null;
+
+alter table evaluations add column analyst_id integer;
+
+update evaluations e
+set analyst_id = (select a.id from analysts a where a.name = e.analyzed_by)
+where analyzed_by is not null;
+
+alter table evaluations drop column analyzed_by;
@@ -0,0 +1,3 @@
+-- Versão dos dados de cada usuário, incrementada a cada escrita nas avaliações dele.
+-- Gera as chaves de cache e os ETags; persistida para que um ETag não se repita depois de reiniciar.
+alter table users add column data_version bigint default 0 not null;
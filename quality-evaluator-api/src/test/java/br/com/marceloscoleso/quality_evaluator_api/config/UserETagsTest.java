@@ -0,0 +1,120 @@
+package br.com.marceloscoleso.quality_evaluator_api.config;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserETagsTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AtomicLong dataVersion = new AtomicLong(3);
+    private final UserCacheKeys userCacheKeys = new UserCacheKeys(userRepository, mock(PlatformTransactionManager.class));
+    private final UserETags eTags = new UserETags(userCacheKeys);
+
+    @BeforeEach
+    void setUp() {
+
+        authenticate(USER_ID);
+
+        when(userRepository.findDataVersion(USER_ID)).thenAnswer(invocation -> Optional.of(dataVersion.get()));
+        doAnswer(invocation -> {
+            dataVersion.incrementAndGet();
+            return 1;
+        }).when(userRepository).incrementDataVersion(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void matchingETagAnswers304() {
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertThat(eTags.notModified(request(null, first))).isFalse();
+
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"3-");
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertThat(eTags.notModified(request(eTag, second))).isTrue();
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    @Test
+    void writeChangesTheETag() {
+
+        MockHttpServletResponse before = new MockHttpServletResponse();
+        eTags.notModified(request(null, before));
+        String oldETag = before.getHeader(HttpHeaders.ETAG);
+
+        userCacheKeys.invalidate(USER_ID);
+
+        MockHttpServletResponse after = new MockHttpServletResponse();
+        assertThat(eTags.notModified(request(oldETag, after))).isFalse();
+        assertThat(after.getStatus()).isEqualTo(200);
+        assertThat(after.getHeader(HttpHeaders.ETAG))
+                .startsWith("\"4-")
+                .isNotEqualTo(oldETag);
+    }
+
+    @Test
+    void eTagDependsOnUserAndQuery() {
+
+        MockHttpServletResponse mine = new MockHttpServletResponse();
+        eTags.notModified(request(null, mine));
+
+        MockHttpServletRequest otherPage = new MockHttpServletRequest("GET", "/api/evaluations");
+        otherPage.setQueryString("page=1&size=10");
+        MockHttpServletResponse otherPageResponse = new MockHttpServletResponse();
+        eTags.notModified(new ServletWebRequest(otherPage, otherPageResponse));
+
+        authenticate(8L);
+        when(userRepository.findDataVersion(8L)).thenReturn(Optional.of(3L));
+        MockHttpServletResponse otherUser = new MockHttpServletResponse();
+        assertThat(eTags.notModified(request(mine.getHeader(HttpHeaders.ETAG), otherUser))).isFalse();
+
+        assertThat(otherPageResponse.getHeader(HttpHeaders.ETAG)).isNotEqualTo(mine.getHeader(HttpHeaders.ETAG));
+        assertThat(otherUser.getHeader(HttpHeaders.ETAG)).isNotEqualTo(mine.getHeader(HttpHeaders.ETAG));
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/evaluations");
+        request.setQueryString("page=0&size=10");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private static void authenticate(Long userId) {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, "u" + userId + "@a.com", Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.marceloscoleso.quality_evaluator_api.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class EvaluationSummaryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+    private final EvaluationSummary summary = new EvaluationSummary(1L);
+
+    @Test
+    void createAddsToEveryCounter() {
+
+        summary.apply(snapshot(1L, Language.JAVA, Classification.EXCELENTE, 90, true, false, MONDAY), 1);
+        summary.apply(snapshot(2L, Language.GO, Classification.RUIM, 20, false, true, MONDAY), 1);
+
+        assertThat(summary.getTotal()).isEqualTo(2);
+        assertThat(summary.getScoreSum()).isEqualTo(110);
+        assertThat(summary.getAverageScore()).isEqualTo(55.0);
+        assertThat(summary.getExcellentCount()).isEqualTo(1);
+        assertThat(summary.getBadCount()).isEqualTo(1);
+        assertThat(summary.getGoodCount()).isZero();
+        assertThat(summary.getTestsCount()).isEqualTo(1);
+        assertThat(summary.getGitCount()).isEqualTo(1);
+        assertThat(summary.getLanguageCounts()).containsOnly(
+                entry(Language.JAVA, 1L),
+                entry(Language.GO, 1L));
+        assertThat(summary.getDailyScores().get(MONDAY).getCount()).isEqualTo(2);
+        assertThat(summary.getDailyScores().get(MONDAY).getAverage()).isEqualTo(55.0);
+    }
+
+    @Test
+    void updateMovesTheEvaluationBetweenBuckets() {
+
+        EvaluationSnapshot before = snapshot(1L, Language.JAVA, Classification.REGULAR, 50, false, false, MONDAY);
+        EvaluationSnapshot after = snapshot(1L, Language.KOTLIN, Classification.BOM, 75, true, true, MONDAY);
+        summary.apply(before, 1);
+        summary.apply(snapshot(2L, Language.JAVA, Classification.REGULAR, 40, false, false, TUESDAY), 1);
+
+        // Atualização = retira o estado anterior e soma o novo
+        summary.apply(before, -1);
+        summary.apply(after, 1);
+
+        assertThat(summary.getTotal()).isEqualTo(2);
+        assertThat(summary.getScoreSum()).isEqualTo(115);
+        assertThat(summary.getRegularCount()).isEqualTo(1);
+        assertThat(summary.getGoodCount()).isEqualTo(1);
+        assertThat(summary.getTestsCount()).isEqualTo(1);
+        assertThat(summary.getGitCount()).isEqualTo(1);
+        assertThat(summary.getLanguageCounts())
+                .containsEntry(Language.JAVA, 1L)
+                .containsEntry(Language.KOTLIN, 1L);
+        assertThat(summary.getDailyScores().get(MONDAY).getAverage()).isEqualTo(75.0);
+        assertThat(summary.getDailyScores().get(TUESDAY).getAverage()).isEqualTo(40.0);
+    }
+
+    @Test
+    void deleteRemovesEmptyLanguagesAndDays() {
+
+        EvaluationSnapshot only = snapshot(1L, Language.RUST, Classification.BOM, 70, true, true, TUESDAY);
+        summary.apply(snapshot(2L, Language.JAVA, Classification.BOM, 80, true, true, MONDAY), 1);
+        summary.apply(only, 1);
+
+        summary.apply(only, -1);
+
+        assertThat(summary.getTotal()).isEqualTo(1);
+        assertThat(summary.getScoreSum()).isEqualTo(80);
+        assertThat(summary.getGoodCount()).isEqualTo(1);
+        assertThat(summary.getTestsCount()).isEqualTo(1);
+        assertThat(summary.getGitCount()).isEqualTo(1);
+        assertThat(summary.getLanguageCounts()).containsOnlyKeys(Language.JAVA);
+        assertThat(summary.getDailyScores()).containsOnlyKeys(MONDAY);
+
+        summary.apply(snapshot(2L, Language.JAVA, Classification.BOM, 80, true, true, MONDAY), -1);
+
+        assertThat(summary.getTotal()).isZero();
+        assertThat(summary.getAverageScore()).isZero();
+        assertThat(summary.getLanguageCounts()).isEmpty();
+        assertThat(summary.getDailyScores()).isEmpty();
+    }
+
+    private static EvaluationSnapshot snapshot(
+            Long id,
+            Language language,
+            Classification classification,
+            int score,
+            boolean hasTests,
+            boolean usesGit,
+            LocalDate createdOn
+    ) {
+        return new EvaluationSnapshot(id, language, classification, score, hasTests, usesGit, 100, 2, createdOn);
+    }
+}
@@ -0,0 +1,370 @@
+package br.com.marceloscoleso.quality_evaluator_api.repository;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationFilterDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationExportRow;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationField;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+import br.com.marceloscoleso.quality_evaluator_api.util.EvaluationCursor;
+import br.com.marceloscoleso.quality_evaluator_api.util.ProjectNameTrigrams;
+
+import jakarta.persistence.Tuple;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Roda o EXPLAIN do H2 sobre o SQL que o Hibernate gera para cada consulta de repositório,
+// com o esquema das migrações. Uma varredura completa de evaluations quebra o build.
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationQueryPlanTest$Recorder"
+})
+class EvaluationQueryPlanTest {
+
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final int USERS = 20;
+    private static final int EVALUATIONS_PER_USER = 100;
+    private static final int PROJECTS_PER_USER = 25;
+
+    @Autowired
+    private EvaluationRepository evaluationRepository;
+
+    @Autowired
+    private EvaluationSummaryRepository summaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectNameTrigramRepository trigramRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    // Volume suficiente para o otimizador do H2 preferir índice a varredura quando ele existe.
+    // O ANALYZE confirma a transação, então a massa é criada uma vez e vale para todos os testes.
+    @BeforeEach
+    void seed() {
+
+        List<Long> userIds = jdbcTemplate.queryForList("select id from users order by id", Long.class);
+
+        if (userIds.isEmpty()) {
+            userIds = insertDataset();
+        }
+
+        user = userRepository.getReferenceById(userIds.get(0));
+    }
+
+    private List<Long> insertDataset() {
+
+        Language[] languages = Language.values();
+        Classification[] classifications = Classification.values();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 1; u <= USERS; u++) {
+            users.add(new Object[]{"user" + u + "@plan.local", "User " + u, "x", "USER", now});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into users (email, name, password, role, created_at) values (?, ?, ?, ?, ?)", users);
+
+        List<Long> userIds = jdbcTemplate.queryForList("select id from users order by id", Long.class);
+
+        List<Object[]> evaluations = new ArrayList<>();
+        List<Object[]> trigrams = new ArrayList<>();
+        long id = 1;
+        for (Long userId : userIds) {
+            for (int p = 0; p < PROJECTS_PER_USER; p++) {
+                for (String trigram : ProjectNameTrigrams.of(projectName(p))) {
+                    trigrams.add(new Object[]{userId, trigram, projectName(p)});
+                }
+            }
+            for (int i = 0; i < EVALUATIONS_PER_USER; i++, id++) {
+                int score = (int) (id * 37 % 101);
+                evaluations.add(new Object[]{
+                        id, userId, projectName(i % PROJECTS_PER_USER),
+                        languages[(int) (id % languages.length)].name(), score,
+                        classifications[(int) (id % classifications.length)].getCode(),
+                        i % 10 == 0 ? DescriptionStatus.PENDING.name() : DescriptionStatus.READY.name(),
+                        now.minusHours(id)
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into evaluations (id, user_id, project_name, language, score, classification,
+                                         description_status, created_at, has_tests, uses_git)
+                values (?, ?, ?, ?, ?, ?, ?, ?, false, false)
+                """, evaluations);
+        jdbcTemplate.batchUpdate(
+                "insert into project_name_trigrams (user_id, trigram, project_name) values (?, ?, ?)", trigrams);
+
+        jdbcTemplate.execute("analyze");
+
+        return userIds;
+    }
+
+    @Test
+    void listingByUserStartsFromAUserIndex() {
+
+        List<String> plans = plansOf(() -> evaluationRepository.findPage(
+                EvaluationSpecifications.belongsTo(user), PageRequest.of(1, 20, CURSOR_SORT), EvaluationField.ALL));
+
+        assertThat(plans).hasSize(2).allSatisfy(EvaluationQueryPlanTest::assertUserIndex);
+    }
+
+    @Test
+    void sparseFieldsSelectOnlyThoseColumns() {
+
+        Set<EvaluationField> fields = EnumSet.of(EvaluationField.ID, EvaluationField.PROJECT_NAME, EvaluationField.SCORE);
+
+        List<String> plans = plansOf(() -> evaluationRepository.findSlice(
+                EvaluationSpecifications.belongsTo(user), CURSOR_SORT, fields, 20));
+
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertUserIndex(plan);
+            assertThat(plan).contains("PROJECT_NAME", "SCORE").doesNotContain("DESCRIPTION", "ANALYST_ID");
+        });
+    }
+
+    @Test
+    void findByIdAndUserUsesPrimaryKey() {
+
+        List<String> plans = plansOf(() -> evaluationRepository.findByIdAndUser(5L, user));
+
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertNoFullScan(plan);
+            assertThat(plan).contains("PRIMARY_KEY");
+        });
+    }
+
+    @Test
+    void cursorPagesStartFromAUserIndex() {
+
+        Tuple last = evaluationRepository.findSlice(
+                EvaluationSpecifications.belongsTo(user), CURSOR_SORT, EvaluationField.ALL, 20).get(19);
+        EvaluationCursor cursor = new EvaluationCursor(
+                last.get("createdAt", LocalDateTime.class), last.get("id", Long.class));
+
+        List<String> plans = plansOf(() -> evaluationRepository.findSlice(
+                EvaluationSpecifications.belongsTo(user).and(EvaluationSpecifications.after(cursor)),
+                CURSOR_SORT,
+                EvaluationField.ALL,
+                21));
+
+        assertThat(plans).singleElement().satisfies(EvaluationQueryPlanTest::assertUserIndex);
+    }
+
+    @Test
+    void filtersStartFromAUserIndex() {
+
+        assertUserIndexed(filter(f -> f.setLanguage(Language.JAVA)));
+        assertUserIndexed(filter(f -> f.setMinScore(80)));
+        assertUserIndexed(filter(f -> {
+            f.setMinScore(20);
+            f.setMaxScore(40);
+        }));
+        assertUserIndexed(filter(f -> f.setClassification(Classification.BOM)));
+        assertUserIndexed(filter(f -> {
+            f.setStartDate(LocalDate.now().minusDays(2));
+            f.setEndDate(LocalDate.now());
+        }));
+        assertUserIndexed(filter(f -> f.setProjectName("projeto-1")));
+        assertUserIndexed(filter(f -> {
+            f.setLanguage(Language.PYTHON);
+            f.setMinScore(50);
+            f.setClassification(Classification.REGULAR);
+        }));
+    }
+
+    @Test
+    void projectNameSearchIntersectsTrigramPostings() {
+
+        Set<String> trigrams = ProjectNameTrigrams.ofQuery("ETO-1");
+
+        List<String> candidates = new ArrayList<>();
+        assertThat(plansOf(() -> candidates.addAll(
+                trigramRepository.findNamesWithAll(user.getId(), trigrams, trigrams.size()))))
+                .singleElement()
+                .satisfies(plan -> {
+                    assertNoFullScan(plan);
+                    assertThat(plan).contains("PROJECT_NAME_TRIGRAMS");
+                });
+        assertThat(candidates).isNotEmpty().allMatch(name -> name.toLowerCase(Locale.ROOT).contains("eto-1"));
+
+        Specification<Evaluation> spec = EvaluationSpecifications.fromFilter(
+                user, filterOf(f -> f.setProjectName("ETO-1")), candidates);
+
+        List<String> plans = plansOf(() ->
+                evaluationRepository.findPage(spec, PageRequest.of(0, 20, CURSOR_SORT), EvaluationField.ALL));
+
+        assertThat(plans).hasSize(2).allSatisfy(plan -> {
+            assertUserIndex(plan);
+            assertThat(plan).contains("PROJECT_NAME IN(");
+        });
+
+        // Mesmo resultado do LIKE sem índice
+        List<Long> found = evaluationRepository
+                .findSlice(spec, CURSOR_SORT, EnumSet.of(EvaluationField.ID), EVALUATIONS_PER_USER).stream()
+                .map(row -> row.get("id", Long.class))
+                .toList();
+        List<Long> expected = jdbcTemplate.queryForList("""
+                select id from evaluations
+                where user_id = ? and lower(project_name) like '%eto-1%'
+                order by created_at desc, id desc
+                """, Long.class, user.getId());
+
+        assertThat(found).isNotEmpty().isEqualTo(expected);
+    }
+
+    @Test
+    void exportChecksAndStreamsThroughAUserIndex() {
+
+        Specification<Evaluation> spec = EvaluationSpecifications.fromFilter(user, filterOf(f -> f.setMinScore(10)), null);
+
+        assertUserIndexed(() -> evaluationRepository.exists(spec));
+        assertUserIndexed(() -> {
+            try (Stream<EvaluationExportRow> rows = evaluationRepository.streamExportRows(spec, CURSOR_SORT, 100)) {
+                rows.forEach(row -> { });
+            }
+        });
+        assertUserIndexed(() -> {
+            try (Stream<Tuple> rows = evaluationRepository.streamRows(
+                    EvaluationSpecifications.belongsTo(user), Sort.unsorted(), EnumSet.allOf(EvaluationField.class), 100)) {
+                rows.forEach(row -> { });
+            }
+        });
+    }
+
+    @Test
+    void pendingDescriptionsUseTheStatusIndex() {
+
+        List<String> plans = plansOf(() ->
+                evaluationRepository.findPendingDescriptions(DescriptionStatus.PENDING, PageRequest.of(0, 50)));
+
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertNoFullScan(plan);
+            assertThat(plan).contains("IDX_EVALUATIONS_DESCRIPTION_STATUS");
+        });
+
+        assertIndexed(() -> evaluationRepository.updatePendingDescription(
+                1L, "ok", null, DescriptionStatus.READY, DescriptionStatus.PENDING));
+    }
+
+    @Test
+    void userAndSummaryLookupsUseKeys() {
+
+        assertIndexed(() -> userRepository.findByEmail("user3@plan.local"));
+        assertIndexed(() -> summaryRepository.findForUpdate(user.getId()));
+        assertIndexed(() -> userRepository.lockById(user.getId()));
+    }
+
+    private static String projectName(int index) {
+        return "Projeto-" + index;
+    }
+
+    private Runnable filter(Consumer<EvaluationFilterDTO> setup) {
+        Specification<Evaluation> spec = EvaluationSpecifications.fromFilter(user, filterOf(setup), null);
+        return () -> {
+            evaluationRepository.findPage(spec, PageRequest.of(0, 20, CURSOR_SORT), EvaluationField.ALL);
+            evaluationRepository.findSlice(spec, CURSOR_SORT, EvaluationField.ALL, 21);
+        };
+    }
+
+    private static EvaluationFilterDTO filterOf(Consumer<EvaluationFilterDTO> setup) {
+        EvaluationFilterDTO filter = new EvaluationFilterDTO();
+        setup.accept(filter);
+        return filter;
+    }
+
+    private void assertIndexed(Runnable call) {
+        assertThat(plansOf(call)).isNotEmpty().allSatisfy(EvaluationQueryPlanTest::assertNoFullScan);
+    }
+
+    private void assertUserIndexed(Runnable call) {
+        assertThat(plansOf(call)).isNotEmpty().allSatisfy(EvaluationQueryPlanTest::assertUserIndex);
+    }
+
+    // O H2 só aproveita a ordem de um índice quando o ORDER BY começa na primeira coluna dele, então
+    // aqui a garantia é a entrada pelo usuário; a ordenação por (user_id, created_at, id) vale nos
+    // bancos que pulam prefixos de igualdade (PostgreSQL, MySQL)
+    private static void assertUserIndex(String plan) {
+        assertNoFullScan(plan);
+        assertThat(plan)
+                .as("Plano sem índice por usuário:%n%s", plan)
+                .containsPattern(Pattern.compile("/\\* PUBLIC\\.\\w+:[^*]*\\bUSER_ID = \\?"));
+    }
+
+    private static void assertNoFullScan(String plan) {
+        assertThat(plan.toLowerCase(Locale.ROOT))
+                .as("Plano com varredura completa:%n%s", plan)
+                .doesNotContain("tablescan");
+    }
+
+    // EXPLAIN de cada comando emitido pela chamada; parâmetros "?" ficam sem valor, o que o H2 aceita no plano
+    private List<String> plansOf(Runnable call) {
+
+        evaluationRepository.flush();
+        Recorder.start();
+        List<String> statements;
+        try {
+            call.run();
+            evaluationRepository.flush();
+        } finally {
+            statements = Recorder.stop();
+        }
+
+        return statements.stream()
+                .map(sql -> jdbcTemplate.queryForObject("explain " + sql, String.class))
+                .toList();
+    }
+
+    public static class Recorder implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = STATEMENTS.get();
+            STATEMENTS.remove();
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
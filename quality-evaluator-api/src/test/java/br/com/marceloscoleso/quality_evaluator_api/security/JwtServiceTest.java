@@ -0,0 +1,121 @@
+package br.com.marceloscoleso.quality_evaluator_api.security;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("segredo-de-teste-com-mais-de-32-bytes!!".getBytes(StandardCharsets.UTF_8));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtService jwtService = new JwtService(SECRET, 100, Duration.ofHours(1), meterRegistry);
+
+    @Test
+    void verifiedTokenIsServedFromCache() {
+
+        String token = jwtService.generateToken(user());
+
+        Claims first = jwtService.parseClaims(token);
+        Claims second = jwtService.parseClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.jwt.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+
+        AuthenticatedUser principal = jwtService.toPrincipal(second);
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getEmail()).isEqualTo("a@a.com");
+        assertThat(principal.getRole()).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    void cachedTokenStopsWorkingWhenItExpires() throws InterruptedException {
+
+        String token = sign(new Date(System.currentTimeMillis() + 1_000));
+
+        assertThat(jwtService.parseClaims(token).getSubject()).isEqualTo("a@a.com");
+
+        Thread.sleep(1_500);
+
+        assertThatThrownBy(() -> jwtService.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifications()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndNotCached() {
+
+        String token = sign(new Date(System.currentTimeMillis() - 1_000));
+
+        assertThatThrownBy(() -> jwtService.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtService.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifications()).isEqualTo(2);
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenAfterOriginalWasCached() {
+
+        String token = jwtService.generateToken(user());
+        jwtService.parseClaims(token);
+
+        // Mesma assinatura com outro payload (outro uid)
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"uid\":42", "\"uid\":1");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtService.parseClaims(tampered)).isInstanceOf(JwtException.class);
+
+        // Assinatura de outra chave
+        String foreign = Jwts.builder()
+                .setSubject("a@a.com")
+                .signWith(Keys.hmacShaKeyFor(new byte[32]), SignatureAlgorithm.HS256)
+                .compact();
+        assertThatThrownBy(() -> jwtService.parseClaims(foreign)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.parseClaims(foreign)).isInstanceOf(JwtException.class);
+
+        assertThat(jwtService.parseClaims(token).get(JwtService.USER_ID_CLAIM, Number.class).longValue()).isEqualTo(42L);
+    }
+
+    private long verifications() {
+        return meterRegistry.get("security.jwt.verify.time").timer().count();
+    }
+
+    private static String sign(Date expiration) {
+        return Jwts.builder()
+                .setSubject("a@a.com")
+                .claim(JwtService.USER_ID_CLAIM, 42)
+                .claim(JwtService.ROLE_CLAIM, Role.USER.name())
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("a@a.com");
+        user.setRole(Role.ADMIN);
+        return user;
+    }
+}
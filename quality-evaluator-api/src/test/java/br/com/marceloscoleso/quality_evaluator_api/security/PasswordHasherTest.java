@@ -0,0 +1,86 @@
+package br.com.marceloscoleso.quality_evaluator_api.security;
+
+import br.com.marceloscoleso.quality_evaluator_api.exception.ApiError;
+import br.com.marceloscoleso.quality_evaluator_api.exception.GlobalExceptionHandler;
+import br.com.marceloscoleso.quality_evaluator_api.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Uma thread e uma vaga na fila: a terceira autenticação simultânea já é recusada
+    private final PasswordHasher hasher = new PasswordHasher(
+            new BCryptPasswordEncoder(4), meterRegistry, 4, 1, 1, Duration.ofSeconds(3));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        hasher.shutdown();
+    }
+
+    @Test
+    void saturatedPoolAnswers503WithRetryAfter() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> busy = hasher.submit(() -> {
+            running.countDown();
+            await(release);
+            return true;
+        });
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = hasher.submit(() -> true);
+
+        ServiceUnavailableException rejected = catchThrowableOfType(
+                () -> hasher.submit(() -> true), ServiceUnavailableException.class);
+
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.getRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(meterRegistry.get("security.password.rejected").counter().count()).isEqualTo(1);
+
+        ResponseEntity<ApiError> response = new GlobalExceptionHandler()
+                .handleServiceUnavailable(rejected, new MockHttpServletRequest("POST", "/auth/login"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        // Com a fila liberada, volta a aceitar
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hasher.submit(() -> true).get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void rehashOnlyWhenStoredCostDiffersFromConfigured() {
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("123456"))).isTrue();
+        assertThat(hasher.needsRehash(hasher.encode("123456"))).isFalse();
+        assertThat(hasher.needsRehash("texto-puro")).isFalse();
+        assertThat(hasher.needsRehash(null)).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardDeltaDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.DashboardSummaryDTO;
+import br.com.marceloscoleso.quality_evaluator_api.event.EvaluationChangedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardEventsServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 2);
+
+    private final EvaluationSummaryService summaryService = mock(EvaluationSummaryService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    private DashboardEventsServiceImpl service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gate.countDown();
+        SecurityContextHolder.clearContext();
+        service.shutdown();
+    }
+
+    @Test
+    void snapshotGoesAheadOfDeltasQueuedWhileItIsRead() {
+
+        service = newService(3, 8, Duration.ofHours(1), 2);
+        gate.countDown();
+        CountDownLatch deltaSent = new CountDownLatch(1);
+
+        when(summaryService.getDashboardDelta(eq(1L), any(), any(), any())).thenAnswer(invocation -> {
+            deltaSent.countDown();
+            return delta();
+        });
+        // Uma escrita confirmada enquanto o snapshot é lido gera um delta antes de ele ficar pronto
+        when(summaryService.getDashboardSummary(1L)).thenAnswer(invocation -> {
+            service.onEvaluationChanged(created(1L, Language.JAVA));
+            deltaSent.await(2, TimeUnit.SECONDS);
+            Thread.sleep(50);
+            return summary();
+        });
+
+        authenticate(1L);
+        service.subscribe();
+
+        RecordingEmitter emitter = emitters.get(0);
+        awaitTrue(() -> emitter.events().size() == 2);
+        assertThat(emitter.events()).containsExactly("snapshot", "delta");
+    }
+
+    @Test
+    void failedSnapshotReleasesTheConnection() {
+
+        service = newService(3, 8, Duration.ofHours(1), 2);
+        when(summaryService.getDashboardSummary(1L)).thenThrow(new IllegalStateException("banco fora"));
+
+        authenticate(1L);
+        assertThatThrownBy(() -> service.subscribe()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(service.connections()).isZero();
+        service.onEvaluationChanged(created(1L, Language.JAVA));
+        verify(summaryService, never()).getDashboardDelta(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void slowConsumerIsDisconnectedWhenItsQueueFills() {
+
+        // Cliente que não lê: o envio do snapshot fica preso e os heartbeats enchem a fila
+        service = newService(3, 2, Duration.ofMillis(20), 2);
+        when(summaryService.getDashboardSummary(1L)).thenReturn(summary());
+
+        authenticate(1L);
+        service.subscribe();
+
+        awaitTrue(() -> registry.counter("business.dashboard.events.dropped").count() == 1);
+        assertThat(service.connections()).isZero();
+
+        gate.countDown();
+        awaitTrue(() -> emitters.get(0).completed);
+    }
+
+    @Test
+    void oldestConnectionOfAUserIsEvictedAboveTheLimit() {
+
+        service = newService(2, 8, Duration.ofHours(1), 2);
+        gate.countDown();
+        when(summaryService.getDashboardSummary(anyLong())).thenReturn(summary());
+
+        authenticate(1L);
+        service.subscribe();
+        service.subscribe();
+        service.subscribe();
+        authenticate(2L);
+        service.subscribe();
+
+        awaitTrue(() -> emitters.get(0).completed);
+        assertThat(service.connections()).isEqualTo(3);
+        assertThat(emitters.subList(1, 4)).noneMatch(emitter -> emitter.completed);
+    }
+
+    @Test
+    void writesInSequenceAreCoalescedIntoOneDelta() {
+
+        // Um só thread de envio, preso no snapshot: as escritas se acumulam num único delta pendente
+        service = newService(3, 8, Duration.ofHours(1), 1);
+        when(summaryService.getDashboardSummary(1L)).thenReturn(summary());
+        when(summaryService.getDashboardDelta(eq(1L), any(), any(), any())).thenReturn(delta());
+
+        authenticate(1L);
+        service.subscribe();
+
+        service.onEvaluationChanged(created(1L, Language.JAVA));
+        service.onEvaluationChanged(created(1L, Language.GO));
+        service.onEvaluationChanged(created(1L, Language.RUST));
+        gate.countDown();
+
+        RecordingEmitter emitter = emitters.get(0);
+        awaitTrue(() -> emitter.events().size() == 2);
+        assertThat(emitter.events()).containsExactly("snapshot", "delta");
+        verify(summaryService, times(1)).getDashboardDelta(
+                eq(1L),
+                eq(Set.of(Classification.BOM)),
+                eq(Set.of(Language.JAVA, Language.GO, Language.RUST)),
+                eq(Set.of(DAY)));
+    }
+
+    private DashboardEventsServiceImpl newService(int perUser, int queueCapacity, Duration heartbeat, int senders) {
+        return new DashboardEventsServiceImpl(
+                summaryService, registry, 100, perUser, queueCapacity,
+                Duration.ofMinutes(5), heartbeat, senders, Duration.ofSeconds(5), false) {
+
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(gate);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "u" + userId + "@a.com", Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static EvaluationChangedEvent created(Long userId, Language language) {
+        return new EvaluationChangedEvent(userId, "u" + userId + "@a.com", null,
+                new EvaluationSnapshot(1L, language, Classification.BOM, 75, true, true, 100, 2, DAY));
+    }
+
+    private static DashboardSummaryDTO summary() {
+        return new DashboardSummaryDTO(1, 0, 1, 0, 0, 75, Map.of("JAVA", 1L), Map.of(DAY, 75.0), 100, 100);
+    }
+
+    private static DashboardDeltaDTO delta() {
+        return new DashboardDeltaDTO(2, 75, 100, 100, Map.of("BOM", 2L), Map.of("JAVA", 2L), Map.of(DAY, 75.0));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condição não atingida a tempo").isNegative();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Registra o nome de cada evento; o envio espera o "gate", simulando um cliente que não lê
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate;
+        private final List<String> events = new ArrayList<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            String text = builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .findFirst()
+                    .orElse("");
+
+            synchronized (events) {
+                events.add(text.startsWith("event:")
+                        ? text.substring("event:".length(), text.indexOf('\n'))
+                        : "heartbeat");
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        private List<String> events() {
+            synchronized (events) {
+                return List.copyOf(events);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DescriptionGeneratorServiceImplTest {
+
+    @Test
+    void deterministicModeRepeatsDescriptionForSameInput() {
+
+        EvaluationRequestDTO dto = request("quality-evaluator", true, false);
+
+        String first = new DescriptionGeneratorServiceImpl(true).generate(dto, 64, Classification.REGULAR);
+        String second = new DescriptionGeneratorServiceImpl(true).generate(dto, 64, Classification.REGULAR);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void rendersSameTextsAsPreviousImplementation() {
+
+        DescriptionGeneratorServiceImpl generator = new DescriptionGeneratorServiceImpl(false);
+
+        // Textos da implementação anterior (List.of + formatted) para o primeiro e o último trecho de cada posição
+        assertThat(generator.render(request("api \"x\" 100%", true, true), 77, Classification.EXCELENTE,
+                new int[]{0, 0, 0, 0, 0, 0})).isEqualTo(
+                "O projeto \"api \"x\" 100%\" desenvolvido em JAVA demonstra características técnicas interessantes. "
+                        + "Com 1200 linhas de código e complexidade 3, conta com cobertura de testes automatizados, "
+                        + "além de utilizar controle de versão com Git. O conjunto de decisões técnicas indica alta "
+                        + "maturidade arquitetural e alinhamento com boas práticas modernas. A pontuação final foi "
+                        + "77/100, refletindo um desempenho excepcional.");
+
+        assertThat(generator.render(request("api \"x\" 100%", false, false), 77, Classification.RUIM,
+                new int[]{3, 2, 2, 2, 2, 2})).isEqualTo(
+                "Analisando o projeto \"api \"x\" 100%\" em JAVA, observam-se aspectos técnicos distintos. "
+                        + "Estruturado em 1200 linhas com complexidade 3, não demonstra validação automatizada, "
+                        + "o que pode impactar rastreabilidade e colaboração. O projeto necessita de revisões "
+                        + "estruturais significativas para atingir um nível técnico adequado. A avaliação consolidada "
+                        + "atingiu 77/100, caracterizando um baixo desempenho técnico.");
+
+        // 4 introduções e 3 opções nas outras cinco posições, todas distintas
+        for (Classification classification : Classification.values()) {
+            for (boolean hasTests : new boolean[]{true, false}) {
+                for (boolean usesGit : new boolean[]{true, false}) {
+
+                    EvaluationRequestDTO dto = request("api \"x\" 100%", hasTests, usesGit);
+                    Set<String> rendered = renderAll(generator, dto, 77, classification);
+
+                    assertThat(rendered).hasSize(4 * 243);
+                    for (int i = 0; i < 200; i++) {
+                        assertThat(rendered).contains(generator.generate(dto, 77, classification));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void templateCodeRendersAndMatchesGeneratedText() {
+
+        DescriptionGeneratorServiceImpl generator = new DescriptionGeneratorServiceImpl(true);
+
+        for (Classification classification : Classification.values()) {
+
+            EvaluationRequestDTO dto = request("api \"x\" 100%", true, false);
+            Integer code = generator.template(dto, 58, classification);
+            String text = generator.generate(dto, 58, classification);
+
+            assertThat(DescriptionTemplates.render(code, dto.getProjectName(), dto.getLanguage(),
+                    dto.getLinesOfCode(), dto.getComplexity(), true, false, 58, classification))
+                    .isEqualTo(text);
+            assertThat(DescriptionTemplates.match(text, dto.getProjectName(), dto.getLanguage(),
+                    dto.getLinesOfCode(), dto.getComplexity(), true, false, 58, classification))
+                    .isEqualTo(code);
+        }
+
+        assertThat(DescriptionTemplates.match("Projeto revisado manualmente.", "x", Language.JAVA,
+                10, 1, true, true, 90, Classification.EXCELENTE)).isNull();
+    }
+
+    // Todas as combinações de trechos possíveis para a entrada
+    private Set<String> renderAll(
+            DescriptionGeneratorServiceImpl generator,
+            EvaluationRequestDTO dto,
+            int score,
+            Classification classification
+    ) {
+        Set<String> rendered = new HashSet<>();
+        int[] fragments = new int[DescriptionTemplates.FRAGMENTS];
+
+        for (int intro = 0; intro < 4; intro++) {
+            for (int combination = 0; combination < 243; combination++) {
+
+                int rest = combination;
+                fragments[DescriptionTemplates.INTRO] = intro;
+                for (int slot = 1; slot < fragments.length; slot++) {
+                    fragments[slot] = rest % 3;
+                    rest /= 3;
+                }
+
+                rendered.add(generator.render(dto, score, classification, fragments));
+            }
+        }
+
+        return rendered;
+    }
+
+    static EvaluationRequestDTO request(String projectName, boolean hasTests, boolean usesGit) {
+
+        EvaluationRequestDTO dto = new EvaluationRequestDTO();
+        dto.setProjectName(projectName);
+        dto.setLanguage(Language.JAVA);
+        dto.setLinesOfCode(1200);
+        dto.setComplexity(3);
+        dto.setHasTests(hasTests);
+        dto.setUsesGit(usesGit);
+        dto.setAnalyzedBy("Marcelo");
+        return dto;
+    }
+}
@@ -0,0 +1,206 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.UserCacheKeys;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.event.DescriptionRequestedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.DescriptionStatus;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.util.CircuitBreaker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class DescriptionWorkerTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final EvaluationRepository repository = mock(EvaluationRepository.class);
+    private final UserCacheKeys cacheKeys = mock(UserCacheKeys.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final DescriptionGeneratorServiceImpl template = new DescriptionGeneratorServiceImpl(false);
+
+    private DescriptionWorker worker;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    @Test
+    void storesPrimaryDescriptionWhenGeneratorAnswersInTime() {
+
+        StubDescriptionGenerator stub = new StubDescriptionGenerator(Duration.ofMillis(50), 0);
+        worker = newWorker(stub, Duration.ofSeconds(2), new CircuitBreaker(5, Duration.ofSeconds(30)));
+
+        worker.submit(task(1L));
+
+        verify(repository, timeout(2000)).updatePendingDescription(
+                eq(1L), eq(StubDescriptionGenerator.TEXT), isNull(),
+                eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+        verify(cacheKeys, timeout(2000)).invalidate(USER_ID);
+    }
+
+    @Test
+    void retriesTransientFailuresBeforeSucceeding() {
+
+        StubDescriptionGenerator stub = new StubDescriptionGenerator(Duration.ofMillis(10), 2);
+        worker = newWorker(stub, Duration.ofSeconds(2), new CircuitBreaker(5, Duration.ofSeconds(30)));
+
+        worker.submit(task(2L));
+
+        verify(repository, timeout(3000)).updatePendingDescription(
+                eq(2L), eq(StubDescriptionGenerator.TEXT), isNull(),
+                eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+        assertThat(stub.calls()).isEqualTo(3);
+    }
+
+    @Test
+    void fallsBackToTemplateWhenGeneratorTimesOut() {
+
+        StubDescriptionGenerator stub = new StubDescriptionGenerator(Duration.ofSeconds(5), 0);
+        worker = newWorker(stub, Duration.ofMillis(100), new CircuitBreaker(5, Duration.ofSeconds(30)));
+
+        worker.submit(task(3L));
+
+        // O fallback grava só o código do template; o texto é montado na leitura
+        ArgumentCaptor<Integer> code = ArgumentCaptor.forClass(Integer.class);
+        verify(repository, timeout(5000)).updatePendingDescription(
+                eq(3L), isNull(), code.capture(),
+                eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+        assertThat(DescriptionTemplates.render(code.getValue(), "quality-evaluator", Language.JAVA,
+                250, 2, true, true, 82, Classification.BOM))
+                .isNotEqualTo(StubDescriptionGenerator.TEXT)
+                .contains("quality-evaluator");
+    }
+
+    @Test
+    void openCircuitSkipsPrimaryGenerator() {
+
+        StubDescriptionGenerator stub = new StubDescriptionGenerator(Duration.ZERO, Integer.MAX_VALUE);
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+        worker = newWorker(stub, Duration.ofSeconds(1), breaker);
+
+        worker.submit(task(4L));
+        verify(repository, timeout(2000)).updatePendingDescription(
+                eq(4L), isNull(), anyInt(), eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+
+        int callsWhenOpened = stub.calls();
+        worker.submit(task(5L));
+        verify(repository, timeout(2000)).updatePendingDescription(
+                eq(5L), isNull(), anyInt(), eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(stub.calls()).isEqualTo(callsWhenOpened);
+    }
+
+    @Test
+    void fullQueueStoresTemplateInItsOwnTransaction() throws InterruptedException {
+
+        StubDescriptionGenerator stub = new StubDescriptionGenerator(Duration.ofSeconds(1), 0);
+        worker = newWorker(stub, Duration.ofSeconds(2), new CircuitBreaker(5, Duration.ofSeconds(30)), 1, 1);
+
+        // Um ocupa o único worker, outro a única vaga da fila; o terceiro é recusado
+        worker.submit(task(6L));
+        while (stub.calls() == 0) {
+            Thread.sleep(5);
+        }
+        worker.submit(task(7L));
+        worker.submit(task(8L));
+
+        // Gravado já na thread que submeteu, numa transação nova (não na que acabou de confirmar)
+        verify(repository).updatePendingDescription(
+                eq(8L), isNull(), anyInt(), eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(cacheKeys).invalidate(USER_ID);
+        verify(repository, never()).updatePendingDescription(
+                eq(7L), isNull(), anyInt(), eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+    }
+
+    @Test
+    void registersPrimaryMetersOnlyWhenPrimaryGeneratorExists() throws InterruptedException {
+
+        SimpleMeterRegistry templateOnly = new SimpleMeterRegistry();
+        worker = new DescriptionWorker(
+                template, template, repository, cacheKeys, transactionManager, templateOnly,
+                1, 10, Duration.ofSeconds(1), 3, Duration.ofMillis(10),
+                new CircuitBreaker(5, Duration.ofSeconds(30)), false
+        );
+        worker.submit(task(9L));
+        worker.shutdown();
+
+        verify(repository).updatePendingDescription(
+                eq(9L), isNull(), anyInt(), eq(DescriptionStatus.READY), eq(DescriptionStatus.PENDING));
+        assertThat(templateOnly.find("business.descriptions.circuit.open").gauge()).isNull();
+        assertThat(templateOnly.find("business.descriptions.generated").tag("source", "primary").counter()).isNull();
+        assertThat(templateOnly.get("business.descriptions.generated").tag("source", "fallback").counter().count())
+                .isEqualTo(1);
+
+        SimpleMeterRegistry withPrimary = new SimpleMeterRegistry();
+        DescriptionWorker primaryWorker = new DescriptionWorker(
+                new StubDescriptionGenerator(Duration.ZERO, 0), template, repository, cacheKeys,
+                transactionManager, withPrimary, 1, 10, Duration.ofSeconds(1), 3, Duration.ofMillis(10),
+                new CircuitBreaker(5, Duration.ofSeconds(30)), false
+        );
+        try {
+            assertThat(withPrimary.find("business.descriptions.circuit.open").gauge()).isNotNull();
+            assertThat(withPrimary.find("business.descriptions.generated").tag("source", "primary").counter())
+                    .isNotNull();
+        } finally {
+            primaryWorker.shutdown();
+        }
+    }
+
+    private DescriptionWorker newWorker(
+            StubDescriptionGenerator primary,
+            Duration callTimeout,
+            CircuitBreaker breaker
+    ) {
+        return newWorker(primary, callTimeout, breaker, 2, 10);
+    }
+
+    private DescriptionWorker newWorker(
+            StubDescriptionGenerator primary,
+            Duration callTimeout,
+            CircuitBreaker breaker,
+            int workers,
+            int queueCapacity
+    ) {
+        return new DescriptionWorker(
+                primary, template, repository, cacheKeys, transactionManager, new SimpleMeterRegistry(),
+                workers, queueCapacity, callTimeout, 3, Duration.ofMillis(10), breaker, false
+        );
+    }
+
+    private DescriptionRequestedEvent task(Long id) {
+
+        EvaluationRequestDTO dto = new EvaluationRequestDTO();
+        dto.setProjectName("quality-evaluator");
+        dto.setLanguage(Language.JAVA);
+        dto.setLinesOfCode(250);
+        dto.setComplexity(2);
+        dto.setHasTests(true);
+        dto.setUsesGit(true);
+        dto.setAnalyzedBy("Marcelo");
+
+        return new DescriptionRequestedEvent(id, USER_ID, dto, 82, Classification.BOM);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.BusinessMetrics;
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.event.EvaluationChangedEvent;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EvaluationAnalyticsServiceImplTest {
+
+    private final EvaluationRepository evaluationRepository = mock(EvaluationRepository.class);
+
+    private final EvaluationAnalyticsServiceImpl service = new EvaluationAnalyticsServiceImpl(
+            evaluationRepository,
+            mock(UserRepository.class),
+            new BusinessMetrics(new SimpleMeterRegistry(), new Duration[] {Duration.ofMillis(10)}),
+            mock(PlatformTransactionManager.class),
+            1_000, 1_000, 100
+    );
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writesCommittedDuringLoadAreReplayedWithoutWaitingForIt() throws Exception {
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(evaluationRepository.streamRows(any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Stream.<Tuple>empty();
+        });
+
+        CompletableFuture<AnalyticsResultDTO> result = CompletableFuture.supplyAsync(() -> {
+            authenticate(1L);
+            return service.query(AnalyticsQuery.parse("language", "count", null, null, null));
+        });
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // A leitura está parada no banco: as escritas (deste e de outro usuário) não esperam por ela
+        CompletableFuture.runAsync(() -> {
+            service.onEvaluationChanged(created(1L, 10L, Language.JAVA));
+            service.onEvaluationChanged(created(1L, 11L, Language.GO));
+            service.onEvaluationChanged(new EvaluationChangedEvent(
+                    1L, "a@a.com", snapshot(11L, Language.GO), null));
+            service.onEvaluationChanged(created(2L, 20L, Language.RUST));
+        }).get(1, TimeUnit.SECONDS);
+
+        release.countDown();
+
+        AnalyticsResultDTO loaded = result.get(5, TimeUnit.SECONDS);
+        assertThat(loaded.getEvaluations()).isEqualTo(1);
+        assertThat(loaded.getGroups()).singleElement()
+                .satisfies(group -> assertThat(group.getKey()).containsEntry("language", Language.JAVA));
+
+        // Depois da carga, escritas vão direto para o conjunto em cache
+        service.onEvaluationChanged(created(1L, 12L, Language.JAVA));
+        authenticate(1L);
+        assertThat(service.query(AnalyticsQuery.parse("language", "count", null, null, null))
+                .getEvaluations()).isEqualTo(2);
+    }
+
+    private static void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "a@a.com", Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static EvaluationChangedEvent created(Long userId, Long id, Language language) {
+        return new EvaluationChangedEvent(userId, "a@a.com", null, snapshot(id, language));
+    }
+
+    private static EvaluationSnapshot snapshot(Long id, Language language) {
+        return new EvaluationSnapshot(id, language, Classification.BOM, 80, true, true, 100, 3,
+                LocalDate.of(2024, 1, 1));
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsGroupDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.AnalyticsResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.exception.BadRequestException;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.util.AnalyticsQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EvaluationColumnsTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void aggregatesLikeGroupingTheRowsAfterUpsertsAndRemovals() {
+
+        Random random = new Random(7);
+        EvaluationColumns store = new EvaluationColumns();
+        Map<Long, EvaluationSnapshot> expected = new HashMap<>();
+
+        // Ids repetidos e remoções exercitam a troca de linhas e o índice por id
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(5_000) + 1;
+            if (random.nextInt(4) == 0) {
+                assertThat(store.remove(id)).isEqualTo(expected.remove(id) != null);
+            } else {
+                EvaluationSnapshot evaluation = snapshot(id, random);
+                store.put(evaluation);
+                expected.put(id, evaluation);
+            }
+        }
+
+        assertThat(store.size()).isEqualTo(expected.size());
+
+        AnalyticsQuery query = AnalyticsQuery.parse(
+                "language,hasTests", "avg(score)", "month", null, LocalDate.of(2024, 6, 30));
+        AnalyticsResultDTO result = store.aggregate(query, 100_000);
+
+        Map<List<Object>, long[]> groups = new HashMap<>();
+        for (EvaluationSnapshot evaluation : expected.values()) {
+            if (evaluation.getCreatedOn().isAfter(LocalDate.of(2024, 6, 30))) {
+                continue;
+            }
+            List<Object> key = List.of(
+                    evaluation.getLanguage(),
+                    evaluation.isHasTests(),
+                    evaluation.getCreatedOn().withDayOfMonth(1));
+            long[] sum = groups.computeIfAbsent(key, k -> new long[2]);
+            sum[0]++;
+            sum[1] += evaluation.getScore();
+        }
+
+        assertThat(result.getGroupBy()).containsExactly("language", "hasTests", "createdAt");
+        assertThat(result.getMetric()).isEqualTo("avg(score)");
+        assertThat(result.getGroups()).hasSize(groups.size());
+        assertThat(result.getEvaluations()).isEqualTo(groups.values().stream().mapToLong(sum -> sum[0]).sum());
+
+        for (AnalyticsGroupDTO group : result.getGroups()) {
+            long[] sum = groups.get(new ArrayList<>(group.getKey().values()));
+            assertThat(group.getCount()).isEqualTo(sum[0]);
+            assertThat(group.getValue().doubleValue()).isEqualTo((double) sum[1] / sum[0]);
+        }
+    }
+
+    @Test
+    void bucketsLinesOfCodeAndSkipsMissingMeasures() {
+
+        EvaluationColumns store = new EvaluationColumns();
+        store.put(1, 80, 2, 5, Language.JAVA, Classification.BOM, true, true, FIRST_DAY);
+        store.put(2, 60, null, 150, Language.JAVA, Classification.REGULAR, false, true, FIRST_DAY);
+        store.put(3, 90, 4, 999_999, Language.JAVA, Classification.EXCELENTE, true, false, FIRST_DAY);
+
+        AnalyticsResultDTO result = store.aggregate(
+                AnalyticsQuery.parse("linesOfCode", "max(complexity)", null, null, null), 100);
+
+        assertThat(result.getGroups()).extracting(group -> group.getKey().get("linesOfCode"))
+                .containsExactly("1-9", "100-999", "100000+");
+        assertThat(result.getGroups()).extracting(AnalyticsGroupDTO::getValue)
+                .containsExactly(2, null, 4);
+    }
+
+    @Test
+    void rejectsQueriesWithTooManyGroups() {
+
+        EvaluationColumns store = new EvaluationColumns();
+        store.put(1, 80, 2, 5, Language.JAVA, Classification.BOM, true, true, FIRST_DAY);
+        store.put(2, 80, 2, 5, Language.JAVA, Classification.BOM, true, true, FIRST_DAY.plusYears(3));
+
+        assertThatThrownBy(() -> store.aggregate(
+                AnalyticsQuery.parse("language,classification", "count", "day", null, null), 1_000))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static EvaluationSnapshot snapshot(long id, Random random) {
+
+        int score = random.nextInt(101);
+
+        return new EvaluationSnapshot(
+                id,
+                Language.values()[random.nextInt(Language.values().length)],
+                EvaluationScoring.classify(score),
+                score,
+                random.nextBoolean(),
+                random.nextBoolean(),
+                random.nextInt(10_000) + 1,
+                random.nextInt(5) + 1,
+                FIRST_DAY.plusDays(random.nextInt(365))
+        );
+    }
+}
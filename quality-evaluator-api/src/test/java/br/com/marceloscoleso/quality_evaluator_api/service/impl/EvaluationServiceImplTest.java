@@ -0,0 +1,187 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.BusinessMetrics;
+import br.com.marceloscoleso.quality_evaluator_api.config.UserCacheKeys;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationBatchItemDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationBatchResultDTO;
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.exception.BadRequestException;
+import br.com.marceloscoleso.quality_evaluator_api.model.Evaluation;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationSnapshot;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.model.Role;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+import br.com.marceloscoleso.quality_evaluator_api.repository.EvaluationRepository;
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.security.AuthenticatedUser;
+import br.com.marceloscoleso.quality_evaluator_api.service.AnalystService;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+import br.com.marceloscoleso.quality_evaluator_api.service.ProjectNameIndexService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EvaluationServiceImplTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final EvaluationRepository evaluationRepository = mock(EvaluationRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EvaluationSummaryService summaryService = mock(EvaluationSummaryService.class);
+    private final AnalystService analystService = mock(AnalystService.class);
+    private final AtomicLong ids = new AtomicLong(100);
+
+    private final EvaluationServiceImpl service = new EvaluationServiceImpl(
+            evaluationRepository,
+            new BusinessMetrics(new SimpleMeterRegistry(), new Duration[]{Duration.ofMillis(10)}),
+            userRepository,
+            new DescriptionGeneratorServiceImpl(true),
+            summaryService,
+            mock(ProjectNameIndexService.class),
+            analystService,
+            mock(ApplicationEventPublisher.class),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            mock(PlatformTransactionManager.class),
+            mock(UserCacheKeys.class),
+            new SimpleMeterRegistry(),
+            500,
+            5,
+            200,
+            "inline",
+            Duration.ofSeconds(10)
+    );
+
+    @BeforeEach
+    void setUp() {
+
+        AuthenticatedUser principal = new AuthenticatedUser(USER_ID, "a@a.com", Role.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        User user = new User();
+        user.setId(USER_ID);
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+
+        when(evaluationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Evaluation> saved = new ArrayList<>(invocation.getArgument(0));
+            saved.forEach(evaluation -> ReflectionTestUtils.setField(evaluation, "id", ids.incrementAndGet()));
+            return saved;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void batchCreatesValidItemsAndReportsInvalidOnesByIndex() {
+
+        EvaluationRequestDTO tooSmall = request("pequeno", "Bia");
+        tooSmall.setLinesOfCode(0);
+
+        EvaluationRequestDTO incomplete = request("sem linguagem", " ");
+        incomplete.setLanguage(null);
+
+        EvaluationBatchResultDTO result = service.createBatch(Arrays.asList(
+                request("api", "Ana"),
+                tooSmall,
+                null,
+                request("web", "Bia"),
+                incomplete
+        ));
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+
+        assertThat(result.getItems()).extracting(EvaluationBatchItemDTO::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(result.getItems()).extracting(EvaluationBatchItemDTO::getStatus).containsExactly(
+                EvaluationBatchItemDTO.Status.CREATED,
+                EvaluationBatchItemDTO.Status.FAILED,
+                EvaluationBatchItemDTO.Status.FAILED,
+                EvaluationBatchItemDTO.Status.CREATED,
+                EvaluationBatchItemDTO.Status.FAILED
+        );
+
+        assertThat(result.getItems().get(0).getEvaluation().getProjectName()).isEqualTo("api");
+        assertThat(result.getItems().get(3).getEvaluation().getProjectName()).isEqualTo("web");
+        assertThat(result.getItems().get(0).getEvaluation().getId()).isNotNull();
+
+        assertThat(result.getItems().get(1).getError()).startsWith("linesOfCode: ");
+        assertThat(result.getItems().get(2).getError()).isEqualTo("Avaliação ausente");
+        assertThat(result.getItems().get(4).getError())
+                .contains("analyzedBy: ")
+                .contains("language: ");
+
+        // Só os itens aceitos entram no dicionário, no resumo e no banco
+        verify(analystService).register("Ana");
+        verify(analystService).register("Bia");
+        verify(analystService, never()).register(" ");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EvaluationSnapshot>> created = ArgumentCaptor.forClass(List.class);
+        verify(summaryService).applyCreated(eq(USER_ID), created.capture());
+        assertThat(created.getValue()).hasSize(2);
+    }
+
+    @Test
+    void batchOverLimitIsRejectedBeforeTouchingTheDatabase() {
+
+        List<EvaluationRequestDTO> items = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            items.add(request("p" + i, "Ana"));
+        }
+
+        assertThatThrownBy(() -> service.createBatch(items))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("O lote pode conter no máximo 5 avaliações");
+        assertThatThrownBy(() -> service.createBatch(List.of()))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(analystService, never()).register(anyString());
+        verifyNoInteractions(evaluationRepository);
+        verify(summaryService, never()).applyCreated(any(), anyList());
+    }
+
+    private static EvaluationRequestDTO request(String projectName, String analyzedBy) {
+
+        EvaluationRequestDTO dto = new EvaluationRequestDTO();
+        dto.setProjectName(projectName);
+        dto.setLanguage(Language.JAVA);
+        dto.setLinesOfCode(250);
+        dto.setComplexity(2);
+        dto.setHasTests(true);
+        dto.setUsesGit(true);
+        dto.setAnalyzedBy(analyzedBy);
+        return dto;
+    }
+}
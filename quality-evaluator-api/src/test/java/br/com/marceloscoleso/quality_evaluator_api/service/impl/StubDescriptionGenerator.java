@@ -0,0 +1,46 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.dto.EvaluationRequestDTO;
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.service.DescriptionGeneratorService;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gerador local que simula um backend lento/instável, com latência e falhas configuráveis
+class StubDescriptionGenerator implements DescriptionGeneratorService {
+
+    static final String TEXT = "descrição do gerador principal";
+
+    private final Duration latency;
+    private final int failuresBeforeSuccess;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    StubDescriptionGenerator(Duration latency, int failuresBeforeSuccess) {
+        this.latency = latency;
+        this.failuresBeforeSuccess = failuresBeforeSuccess;
+    }
+
+    @Override
+    public String generate(EvaluationRequestDTO dto, int score, Classification classification) {
+
+        int call = calls.incrementAndGet();
+
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrompido");
+        }
+
+        if (call <= failuresBeforeSuccess) {
+            throw new IllegalStateException("falha simulada " + call);
+        }
+
+        return TEXT;
+    }
+
+    int calls() {
+        return calls.get();
+    }
+}
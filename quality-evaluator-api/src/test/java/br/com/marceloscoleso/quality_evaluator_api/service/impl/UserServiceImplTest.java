@@ -0,0 +1,105 @@
+package br.com.marceloscoleso.quality_evaluator_api.service.impl;
+
+import br.com.marceloscoleso.quality_evaluator_api.config.UserCacheKeys;
+import br.com.marceloscoleso.quality_evaluator_api.model.User;
+import br.com.marceloscoleso.quality_evaluator_api.repository.UserRepository;
+import br.com.marceloscoleso.quality_evaluator_api.security.JwtService;
+import br.com.marceloscoleso.quality_evaluator_api.security.PasswordHasher;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationAnalyticsService;
+import br.com.marceloscoleso.quality_evaluator_api.service.EvaluationSummaryService;
+import br.com.marceloscoleso.quality_evaluator_api.service.ProjectNameIndexService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceImplTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtService jwtService = mock(JwtService.class);
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+
+    // Custo configurado 5; senhas gravadas com outro custo são regravadas no login
+    private final PasswordHasher hasher = new PasswordHasher(
+            encoder, new SimpleMeterRegistry(), 5, 1, 10, Duration.ofSeconds(2));
+
+    private final UserServiceImpl service = new UserServiceImpl(
+            userRepository,
+            hasher,
+            jwtService,
+            mock(EvaluationSummaryService.class),
+            mock(ProjectNameIndexService.class),
+            mock(EvaluationAnalyticsService.class),
+            mock(UserCacheKeys.class)
+    );
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        hasher.shutdown();
+    }
+
+    @Test
+    void loginRehashesPasswordStoredWithOldCost() throws Exception {
+
+        User user = user(new BCryptPasswordEncoder(4).encode("123456"));
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        assertThat(service.login("a@a.com", "123456").get(5, TimeUnit.SECONDS)).isEqualTo("token");
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updatePassword(eq(7L), rehashed.capture());
+        assertThat(rehashed.getValue()).startsWith("$2a$05$");
+        assertThat(encoder.matches("123456", rehashed.getValue())).isTrue();
+    }
+
+    @Test
+    void loginKeepsPasswordWithCurrentCost() throws Exception {
+
+        user(encoder.encode("123456"));
+        when(jwtService.generateToken(any())).thenReturn("token");
+
+        assertThat(service.login("a@a.com", "123456").get(5, TimeUnit.SECONDS)).isEqualTo("token");
+
+        verify(userRepository, never()).updatePassword(any(), anyString());
+    }
+
+    @Test
+    void wrongPasswordIsNotRehashed() {
+
+        user(new BCryptPasswordEncoder(4).encode("123456"));
+
+        assertThatThrownBy(() -> service.login("a@a.com", "errada").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("Credenciais inválidas");
+
+        verify(userRepository, never()).updatePassword(any(), anyString());
+        verify(jwtService, never()).generateToken(any());
+    }
+
+    private User user(String encodedPassword) {
+
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("a@a.com");
+        user.setPassword(encodedPassword);
+        when(userRepository.findByEmail("a@a.com")).thenReturn(Optional.of(user));
+        return user;
+    }
+}
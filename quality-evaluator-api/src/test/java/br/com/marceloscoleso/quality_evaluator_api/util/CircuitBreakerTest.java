@@ -0,0 +1,50 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30), now::get);
+
+    @Test
+    void halfOpenAdmitsSingleProbeAndReopensWhenItFails() {
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertThat(breaker.allowRequest()).isFalse();
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // Só a primeira chamada vira teste; as outras continuam barradas
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.allowRequest()).isFalse();
+
+        breaker.recordFailure();
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() {
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertThat(breaker.allowRequest()).isTrue();
+        breaker.recordSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.EvaluationExportRow;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvExporterApiTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 5, 9, 7);
+
+    @Test
+    void quotesOnlyFieldsWithSeparatorsQuotesOrLineBreaks() throws IOException {
+
+        String csv = export(
+                row("simples"),
+                row("api, v2"),
+                row("o \"melhor\" projeto"),
+                row("linha 1\nlinha 2"),
+                row("retorno\r"),
+                new EvaluationExportRow("c#", Language.CSHARP, 40, Classification.RUIM, CREATED_AT)
+        );
+
+        assertThat(csv).isEqualTo("""
+                Projeto,Linguagem,Nota,Classificacao,Data
+                simples,Java,87,BOM,05/03/2024 09:07
+                "api, v2",Java,87,BOM,05/03/2024 09:07
+                "o ""melhor"" projeto",Java,87,BOM,05/03/2024 09:07
+                "linha 1
+                linha 2",Java,87,BOM,05/03/2024 09:07
+                "retorno\r",Java,87,BOM,05/03/2024 09:07
+                c#,C#,40,RUIM,05/03/2024 09:07
+                """);
+    }
+
+    @Test
+    void emptyFieldsStayEmpty() throws IOException {
+
+        String csv = export(new EvaluationExportRow(null, Language.GO, 0, null, CREATED_AT));
+
+        assertThat(csv).endsWith("\n,Go,0,,05/03/2024 09:07\n");
+    }
+
+    @Test
+    void writeCountsRows() throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(CsvExporterApi.write(Stream.of(row("a"), row("b")), out)).isEqualTo(2);
+        assertThat(CsvExporterApi.write(Stream.empty(), new ByteArrayOutputStream())).isZero();
+    }
+
+    private static EvaluationExportRow row(String projectName) {
+        return new EvaluationExportRow(projectName, Language.JAVA, 87, Classification.BOM, CREATED_AT);
+    }
+
+    private static String export(EvaluationExportRow... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvExporterApi.write(Stream.of(rows), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
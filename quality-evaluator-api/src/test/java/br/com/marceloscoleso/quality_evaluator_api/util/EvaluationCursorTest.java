@@ -0,0 +1,54 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import br.com.marceloscoleso.quality_evaluator_api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EvaluationCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 2, 29, 23, 59, 58, 123_456_000);
+        String token = new EvaluationCursor(createdAt, 9_007_199_254_740_993L).encode();
+
+        // Vai na query string sem escape
+        assertThat(token).doesNotContain("+", "/", "=");
+
+        EvaluationCursor decoded = EvaluationCursor.decode(token);
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(9_007_199_254_740_993L);
+    }
+
+    @Test
+    void missingCursorStartsFromFirstPage() {
+        assertThat(EvaluationCursor.decode(null)).isNull();
+        assertThat(EvaluationCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejectedAsBadRequest() {
+
+        assertInvalid("não é base64!");
+        assertInvalid(encode("2024-02-29T23:59:58"));
+        assertInvalid(encode("ontem|42"));
+        assertInvalid(encode("2024-02-29T23:59:58|"));
+        assertInvalid(encode("2024-02-29T23:59:58|quarenta"));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> EvaluationCursor.decode(token))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cursor inválido");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.marceloscoleso.quality_evaluator_api.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight flight = new SingleFlight("stats", Duration.ofSeconds(5), registry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> flight.execute("user-1", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+
+            // Todas as chamadas chegam antes de a primeira terminar
+            while (registry.counter("business.singleflight.calls",
+                    "operation", "stats", "outcome", "leader").count() < 1) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(registry.counter("business.singleflight.calls",
+                "operation", "stats", "outcome", "coalesced").count()).isEqualTo(7);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void waiterPastTimeoutComputesOnItsOwn() throws Exception {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight flight = new SingleFlight("dashboard", Duration.ofMillis(50), registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService leader = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> slow = leader.submit(() -> flight.execute("user-1", () -> {
+                started.countDown();
+                await(release);
+                return "lento";
+            }));
+            started.await();
+
+            assertThat(flight.execute("user-1", () -> "proprio")).isEqualTo("proprio");
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("lento");
+        } finally {
+            leader.shutdownNow();
+        }
+
+        assertThat(registry.counter("business.singleflight.calls",
+                "operation", "dashboard", "outcome", "timeout").count()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
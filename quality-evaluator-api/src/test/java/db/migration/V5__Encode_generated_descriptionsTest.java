@@ -0,0 +1,66 @@
+package db.migration;
+
+import br.com.marceloscoleso.quality_evaluator_api.model.Classification;
+import br.com.marceloscoleso.quality_evaluator_api.model.Language;
+import br.com.marceloscoleso.quality_evaluator_api.service.impl.DescriptionTemplates;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class V5__Encode_generated_descriptionsTest {
+
+    // A cópia congelada na migração precisa reconhecer todo texto da versão 1 com o mesmo código
+    @Test
+    void frozenTemplatesMatchEveryVersionOneRendering() {
+
+        int matched = 0;
+
+        for (Classification classification : Classification.values()) {
+            for (boolean hasTests : new boolean[]{true, false}) {
+                for (boolean usesGit : new boolean[]{true, false}) {
+
+                    int[] fragments = new int[DescriptionTemplates.FRAGMENTS];
+                    int combinations = 1;
+                    for (int position = 0; position < fragments.length; position++) {
+                        combinations *= DescriptionTemplates.options(position, hasTests, usesGit, classification);
+                    }
+
+                    for (int combination = 0; combination < combinations; combination++) {
+
+                        int rest = combination;
+                        for (int position = 0; position < fragments.length; position++) {
+                            int options = DescriptionTemplates.options(position, hasTests, usesGit, classification);
+                            fragments[position] = rest % options;
+                            rest /= options;
+                        }
+
+                        int code = DescriptionTemplates.encode(fragments);
+                        String text = DescriptionTemplates.render(code, "api \"x\" 100%", Language.CSHARP,
+                                1200, 4, hasTests, usesGit, 71, classification);
+
+                        assertThat(V5__Encode_generated_descriptions.match(text, "api \"x\" 100%", "CSHARP",
+                                1200, 4, hasTests, usesGit, 71, classification.name()))
+                                .isEqualTo(code);
+                        matched++;
+                    }
+                }
+            }
+        }
+
+        assertThat(matched).isEqualTo(4 * 4 * 4 * 3 * 3 * 3 * 3 * 3);
+    }
+
+    @Test
+    void textOutsideTemplatesIsKept() {
+
+        String generated = DescriptionTemplates.render(new int[DescriptionTemplates.FRAGMENTS], "p", Language.GO,
+                10, 1, true, true, 90, Classification.EXCELENTE);
+
+        assertThat(V5__Encode_generated_descriptions.match("Projeto revisado manualmente.", "p", "GO",
+                10, 1, true, true, 90, "EXCELENTE")).isNull();
+        assertThat(V5__Encode_generated_descriptions.match(generated + " Revisado.", "p", "GO",
+                10, 1, true, true, 90, "EXCELENTE")).isNull();
+        assertThat(V5__Encode_generated_descriptions.match(generated, "p", "GO",
+                10, 1, true, true, 90, "OTIMO")).isNull();
+    }
+}